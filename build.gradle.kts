@@ -17,6 +17,7 @@ val parchmentMinecraftVersion: String = "1.21"
 val emiVersion: String = "1.1.10+1.21"
 val jeiVersion: String = "19.5.2.66"
 val patchouliVersion: String = "1.21-87-NEOFORGE-SNAPSHOT"
+val jmhVersion: String = "1.37"
 
 val modId: String = "tfc"
 val modVersion: String = System.getenv("VERSION") ?: "0.0.0-indev"
@@ -83,6 +84,13 @@ sourceSets {
         }
     }
     create("data")
+    create("jmh")
+}
+
+// Benchmarks run inside the same unit test environment as tests, so they inherit all test dependencies
+configurations {
+    named("jmhImplementation") { extendsFrom(configurations.testImplementation.get()) }
+    named("jmhRuntimeOnly") { extendsFrom(configurations.testRuntimeOnly.get()) }
 }
 
 dependencies {
@@ -114,11 +122,18 @@ dependencies {
     testImplementation(sourceSets["data"].output)
     testImplementation("org.junit.jupiter:junit-jupiter:5.10.3")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher:1.10.3")
+
+    // Benchmarks
+    "jmhImplementation"(sourceSets["main"].output)
+    "jmhImplementation"(sourceSets["test"].output)
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:${jmhVersion}")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:${jmhVersion}")
 }
 
 neoForge {
     version.set(neoForgeVersion)
     addModdingDependenciesTo(sourceSets["data"])
+    addModdingDependenciesTo(sourceSets["jmh"])
     validateAccessTransformers = true
 
     parchment {
@@ -201,6 +216,24 @@ tasks {
         useJUnitPlatform()
     }
 
+    // Runs JMH benchmarks in-process, through the unit test launcher, so that Minecraft and TFC are bootstrapped as they are for tests.
+    // Select benchmarks with -Ptfc.jmh.include=<regex>, results are written to build/reports/jmh
+    register<Test>("jmh") {
+        description = "Runs world generation benchmarks"
+        group = "verification"
+
+        testClassesDirs = sourceSets["jmh"].output.classesDirs
+        classpath = sourceSets["jmh"].runtimeClasspath
+
+        useJUnitPlatform()
+        jvmArgumentProviders.addAll(test.get().jvmArgumentProviders)
+        systemProperties(test.get().systemProperties)
+        systemProperty("tfc.jmh.include", project.findProperty("tfc.jmh.include") ?: ".*")
+        systemProperty("tfc.jmh.output", layout.buildDirectory.file("reports/jmh/results.json").get().asFile.absolutePath)
+
+        outputs.upToDateWhen { false }
+    }
+
     jar {
         manifest {
             attributes["Implementation-Version"] = project.version
@@ -1340,6 +1340,27 @@ DEFAULT_LANG = {
     'tfc.commands.clear_world.starting': 'Clearing world. Prepare for lag...',
     'tfc.commands.clear_world.done': 'Cleared %d Block(s).',
     'tfc.commands.count_block.done': 'Found %d',
+    'tfc.commands.pregen.starting': 'Pre-generating regions within %s blocks...',
+    'tfc.commands.pregen.done': 'Pre-generated %s region partitions in %s ms',
+    'tfc.commands.pregen.task_timing': '  %s: %s ms per region',
+    'tfc.commands.pregen.invalid_generator': 'This world does not have a compatible chunk generator',
+    'tfc.commands.pregen.no_storage': 'Region storage is disabled, so pre-generated regions would not be kept. Enable enableRegionStorage in the common config first.',
+    'tfc.commands.pregen.failed': 'Pre-generation failed: %s',
+    'tfc.commands.worldgen.profile_started': 'World generation profiling started',
+    'tfc.commands.worldgen.profile_stopped': 'World generation profiling stopped',
+    'tfc.commands.worldgen.reset': 'World generation profiling stats have been reset',
+    'tfc.commands.worldgen.not_enabled': 'World generation profiling is not running, use /tfc worldgen profile start',
+    'tfc.commands.worldgen.dumped': 'Wrote world generation stats to %s',
+    'tfc.commands.worldgen.dump_failed': 'Unable to write world generation stats: %s',
+    'tfc.commands.worldgen.cache': '  %s cache: %s hits, %s misses, %s%% hit rate',
+    'tfc.commands.tracker.landslides': 'Landslides: %s queued in %s chunks, %s duplicates ignored',
+    'tfc.commands.tracker.isolated': 'Isolated blocks: %s queued in %s chunks, %s duplicates ignored',
+    'tfc.commands.tracker.collapses': 'Collapses: %s in progress, with %s positions',
+    'tfc.commands.tracker.last_tick': 'Last tick: %s processed in %s ms, %s ticks over budget',
+    'tfc.commands.tracker.nest_boxes': 'Nest boxes: %s in %s indexed chunks, %s claimed. %s searches, %s paths (%s unreachable) in %s ms',
+    'tfc.commands.tracker.hydration': 'Farmland hydration: %s cached in %s chunks. %s hits, %s misses',
+    'tfc.commands.tracker.block_entity_sync': 'Block entity sync: %s delta and %s full syncs, sent %s KiB instead of %s KiB',
+    'tfc.commands.tracker.block_entity_sync_skipped': 'Block entity sync: %s skipped, as nothing had changed since the last sync',
     'tfc.commands.player.query_hunger': 'Hunger is %s / 20',
     'tfc.commands.player.query_saturation': 'Saturation is %s / 20',
     'tfc.commands.player.query_water': 'Water is %s / 100',
@@ -1804,6 +1825,7 @@ DEFAULT_LANG = {
     'tfc.configuration.vanillaChanges': 'Vanilla Chanes',
     'tfc.configuration.weird': 'Weird',
     'tfc.configuration.woodenBucket': 'Wooden Bucket',
+    'tfc.configuration.worldGeneration': 'World Generation',
     'tfc.configuration.yak': 'Yak',
     'tfc.configuration.display': 'Display',
 
@@ -1839,6 +1861,7 @@ DEFAULT_LANG = {
     'tfc.config.common.defaultMonthLength': 'Default Month Length',
     'tfc.config.common.defaultWorldPreset': 'Default World Preset',
     'tfc.config.common.enableDatapackTests': 'Enable Datapack Tests',
+    'tfc.config.common.enableRegionStorage': 'Enable Region Storage',
 
     'tfc.config.server.acaciaSaplingGrowthDays': 'Acacia Sapling Growth Days',
     'tfc.config.server.alpacaAdulthoodDays': 'Adulthood Days',
@@ -1896,6 +1919,9 @@ DEFAULT_LANG = {
     'tfc.config.server.collapseMinRadius': 'Min Radius',
     'tfc.config.server.collapsePropagateChance': 'Propogate Chance',
     'tfc.config.server.collapseRadiusVariance': 'Radius Variance',
+    'tfc.config.server.collapseBlocksPerTick': 'Blocks Per Tick',
+    'tfc.config.server.collapseMaxFallingEntitiesPerTick': 'Max Falling Entities Per Tick',
+    'tfc.config.server.worldTrackerTickBudget': 'World Tracker Tick Budget',
     'tfc.config.server.collapseTriggerChance': 'Trigger Chance',
     'tfc.config.server.composterEnableAutomation': 'Enable Automation',
     'tfc.config.server.composterTicks': 'Ticks',
@@ -1968,6 +1994,8 @@ DEFAULT_LANG = {
     'tfc.config.server.enableVanillaSkeletonHorseSpawning': 'Enable Vanilla Skeleton Horse Spawning',
     'tfc.config.server.enableVanillaWeatherEffects': 'Enable Vanilla Weather Effects',
     'tfc.config.server.familiarityDecayLimit': 'Familiarity Decay Limit',
+    'tfc.config.server.animalDormancyDistance': 'Animal Dormancy Distance',
+    'tfc.config.server.animalDormantBrainInterval': 'Animal Dormant Brain Interval',
     'tfc.config.server.farmlandMakesTheBestRaceTracks': 'Farmland Makes the Best Race Tracks',
     'tfc.config.server.firePitEnableAutomation': 'Enable Automation',
     'tfc.config.server.foodDecayModifier': 'Food Decay Modifier',
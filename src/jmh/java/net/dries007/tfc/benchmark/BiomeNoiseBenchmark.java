@@ -0,0 +1,73 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.world.biome.BiomeNoise;
+import net.dries007.tfc.world.noise.Noise2D;
+
+/**
+ * Samples a selection of the {@link BiomeNoise} height samplers over a single chunk's worth of columns.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BiomeNoiseBenchmark
+{
+    private static final long SEED = 1923874123L;
+
+    @Param({"hills", "sharp_hills", "mountains", "canyons", "shilin", "dunes", "ocean"})
+    public String biome;
+
+    private Noise2D noise;
+    private int chunkX, chunkZ;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        noise = switch (biome)
+        {
+            case "hills" -> BiomeNoise.hills(SEED, -5, 16);
+            case "sharp_hills" -> BiomeNoise.sharpHills(SEED, 4, 28);
+            case "mountains" -> BiomeNoise.mountains(SEED, 10, 70);
+            case "canyons" -> BiomeNoise.canyons(SEED, -2, 40);
+            case "shilin" -> BiomeNoise.shilin(SEED, BiomeNoise.hills(SEED, 4, 28), 1);
+            case "dunes" -> BiomeNoise.dunes(SEED, 2, 16);
+            case "ocean" -> BiomeNoise.ocean(SEED, -26, -12);
+            default -> throw new IllegalArgumentException("Unknown biome: " + biome);
+        };
+    }
+
+    @Benchmark
+    public void sampleChunk(Blackhole blackhole)
+    {
+        chunkX += 16;
+        chunkZ += 48;
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                blackhole.consume(noise.noise(chunkX + x, chunkZ + z));
+            }
+        }
+    }
+}
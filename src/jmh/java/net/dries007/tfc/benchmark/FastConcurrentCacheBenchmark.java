@@ -0,0 +1,184 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+import it.unimi.dsi.fastutil.HashCommon;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.dries007.tfc.world.FastConcurrentCache;
+
+/**
+ * Measures throughput of {@link FastConcurrentCache} as the number of threads increases, against a reference implementation using a single
+ * {@link StampedLock}, which is how the cache was previously implemented. The access pattern is 90% reads, over a key space slightly larger than
+ * the cache, so both hits and misses (followed by a write) are exercised.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FastConcurrentCacheBenchmark
+{
+    private static final int CAPACITY = 1024;
+    private static final int KEYS = 48; // 48 x 48 keys, for a 1024 entry cache
+
+    @Param({"lock_free", "stamped_lock"})
+    public String implementation;
+
+    private Cache cache;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        cache = switch (implementation)
+        {
+            case "lock_free" -> {
+                final FastConcurrentCache<Object> delegate = new FastConcurrentCache<>(CAPACITY);
+                yield new Cache()
+                {
+                    @Nullable
+                    @Override
+                    public Object getIfPresent(int x, int z)
+                    {
+                        return delegate.getIfPresent(x, z);
+                    }
+
+                    @Override
+                    public void set(int x, int z, Object value)
+                    {
+                        delegate.set(x, z, value);
+                    }
+                };
+            }
+            case "stamped_lock" -> new StampedLockCache(CAPACITY);
+            default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        };
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object threads1()
+    {
+        return access();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object threads4()
+    {
+        return access();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object threads8()
+    {
+        return access();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Object threads16()
+    {
+        return access();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Object threads32()
+    {
+        return access();
+    }
+
+    private Object access()
+    {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int x = random.nextInt(KEYS), z = random.nextInt(KEYS);
+        Object value = cache.getIfPresent(x, z);
+        if (value == null || random.nextInt(10) == 0)
+        {
+            value = new Object();
+            cache.set(x, z, value);
+        }
+        return value;
+    }
+
+    interface Cache
+    {
+        @Nullable
+        Object getIfPresent(int x, int z);
+
+        void set(int x, int z, Object value);
+    }
+
+    /**
+     * The previous implementation of {@link FastConcurrentCache}, kept only as a baseline for comparison.
+     */
+    static final class StampedLockCache implements Cache
+    {
+        private final StampedLock lock = new StampedLock();
+        private final long[] keys;
+        private final Object[] values;
+        private final int mask;
+
+        StampedLockCache(int size)
+        {
+            size = Mth.smallestEncompassingPowerOfTwo(size);
+
+            this.mask = size - 1;
+            this.keys = new long[size];
+            this.values = new Object[size];
+
+            Arrays.fill(this.keys, Long.MIN_VALUE);
+        }
+
+        @Nullable
+        @Override
+        public Object getIfPresent(int x, int z)
+        {
+            final long key = ChunkPos.asLong(x, z);
+            final int index = (int) HashCommon.mix(key) & mask;
+            final long stamp = lock.readLock();
+
+            Object t = null;
+            if (keys[index] == key)
+                t = values[index];
+
+            lock.unlockRead(stamp);
+            return t;
+        }
+
+        @Override
+        public void set(int x, int z, Object value)
+        {
+            final long key = ChunkPos.asLong(x, z);
+            final int index = (int) HashCommon.mix(key) & mask;
+            final long stamp = lock.writeLock();
+            keys[index] = key;
+            values[index] = value;
+            lock.unlockWrite(stamp);
+        }
+    }
+}
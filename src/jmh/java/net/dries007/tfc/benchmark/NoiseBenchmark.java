@@ -0,0 +1,158 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.world.noise.Cellular2D;
+import net.dries007.tfc.world.noise.FastNoiseLite;
+import net.dries007.tfc.world.noise.Noise2D;
+import net.dries007.tfc.world.noise.Noise3D;
+import net.dries007.tfc.world.noise.OpenSimplex2D;
+import net.dries007.tfc.world.noise.OpenSimplex3D;
+
+/**
+ * Samples each noise over a single chunk's worth of columns (16 x 16), or for 3D noise, a single chunk section (16 x 16 x 16), at a new chunk
+ * position every invocation, which matches how noise is queried during chunk generation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class NoiseBenchmark
+{
+    private static final long SEED = 1923874123L;
+
+    private Noise2D openSimplex2D;
+    private Noise2D openSimplex2DOctaves;
+    private Noise2D composed;
+    private final double[] values = new double[16 * 16];
+    private Noise3D openSimplex3D;
+    private Cellular2D cellular2D;
+    private FastNoiseLite fastNoiseLite;
+
+    private int chunkX, chunkZ;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        openSimplex2D = new OpenSimplex2D(SEED).spread(0.05f);
+        openSimplex2DOctaves = new OpenSimplex2D(SEED).octaves(4).spread(0.05f);
+        openSimplex3D = new OpenSimplex3D(SEED).octaves(4).spread(0.05f);
+        cellular2D = new Cellular2D(SEED).spread(0.05f);
+        composed = new OpenSimplex2D(SEED).spread(0.05f)
+            .add(new OpenSimplex2D(SEED + 1).octaves(2).spread(0.02f).scaled(-0.3, 0.3))
+            .octaves(2)
+            .clamped(-0.8, 0.8)
+            .scaled(60, 100);
+
+        fastNoiseLite = new FastNoiseLite((int) SEED);
+        fastNoiseLite.SetNoiseType(FastNoiseLite.NoiseType.OpenSimplex2);
+        fastNoiseLite.SetFractalType(FastNoiseLite.FractalType.FBm);
+        fastNoiseLite.SetFractalOctaves(4);
+        fastNoiseLite.SetFrequency(0.05f);
+    }
+
+    @Benchmark
+    public void openSimplex2D(Blackhole blackhole)
+    {
+        sample2D(openSimplex2D, blackhole);
+    }
+
+    @Benchmark
+    public void openSimplex2DOctaves(Blackhole blackhole)
+    {
+        sample2D(openSimplex2DOctaves, blackhole);
+    }
+
+    @Benchmark
+    public void composed(Blackhole blackhole)
+    {
+        sample2D(composed, blackhole);
+    }
+
+    @Benchmark
+    public double[] composedFill()
+    {
+        nextChunk();
+        composed.fill(values, chunkX, chunkZ, 16, 16, 1);
+        return values;
+    }
+
+    @Benchmark
+    public double[] openSimplex2DOctavesFill()
+    {
+        nextChunk();
+        openSimplex2DOctaves.fill(values, chunkX, chunkZ, 16, 16, 1);
+        return values;
+    }
+
+    @Benchmark
+    public void cellular2D(Blackhole blackhole)
+    {
+        sample2D(cellular2D, blackhole);
+    }
+
+    @Benchmark
+    public void fastNoiseLite(Blackhole blackhole)
+    {
+        nextChunk();
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                blackhole.consume(fastNoiseLite.GetNoise(chunkX + x, chunkZ + z));
+            }
+        }
+    }
+
+    @Benchmark
+    public void openSimplex3D(Blackhole blackhole)
+    {
+        nextChunk();
+        for (int x = 0; x < 16; x++)
+        {
+            for (int y = 0; y < 16; y++)
+            {
+                for (int z = 0; z < 16; z++)
+                {
+                    blackhole.consume(openSimplex3D.noise(chunkX + x, y, chunkZ + z));
+                }
+            }
+        }
+    }
+
+    private void sample2D(Noise2D noise, Blackhole blackhole)
+    {
+        nextChunk();
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                blackhole.consume(noise.noise(chunkX + x, chunkZ + z));
+            }
+        }
+    }
+
+    private void nextChunk()
+    {
+        chunkX += 16;
+        chunkZ += 48;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.data.providers.BuiltinWorldPreset;
+import net.dries007.tfc.test.TestSetup;
+import net.dries007.tfc.world.chunkdata.ChunkData;
+import net.dries007.tfc.world.chunkdata.ChunkDataGenerator;
+import net.dries007.tfc.world.chunkdata.ChunkRockDataCache;
+import net.dries007.tfc.world.region.RegionGenerator;
+
+/**
+ * Benchmarks for the region generator, and the chunk data generator that samples it.
+ * <ul>
+ *     <li>{@link #createRegion} builds an entire region from scratch, running every {@link RegionGenerator.Task}, bypassing any caches.</li>
+ *     <li>{@link #generateChunkData} generates the chunk data for a chunk, which will mostly hit already generated regions.</li>
+ *     <li>{@link #generateRock} queries the rock at every position in a chunk column, with a per-chunk rock cache, as is done by the surface builder.</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class RegionGeneratorBenchmark
+{
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private RegionGenerator generator;
+    private ChunkDataGenerator chunkDataGenerator;
+    private int gridX, chunkX;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        TestSetup.beforeAll();
+
+        generator = new RegionGenerator(BuiltinWorldPreset.defaultSettings(), new XoroshiroRandomSource(1923874123L));
+        generator.setParallel(parallel);
+        chunkDataGenerator = generator.chunkDataGenerator();
+    }
+
+    @Benchmark
+    public void createRegion()
+    {
+        // Regions are roughly 20 - 40 grid units across, so this is a new region almost every invocation
+        gridX += 64;
+        generator.visualizeRegion(gridX, 0, (task, region) -> {});
+    }
+
+    @Benchmark
+    public ChunkData generateChunkData()
+    {
+        chunkX++;
+        return chunkDataGenerator.createAndGenerate(new ChunkPos(chunkX, 0));
+    }
+
+    @Benchmark
+    public void generateRock(Blackhole blackhole)
+    {
+        chunkX++;
+        final ChunkPos pos = new ChunkPos(chunkX, 0);
+        final ChunkRockDataCache cache = new ChunkRockDataCache(pos);
+        final int blockX = pos.getMinBlockX(), blockZ = pos.getMinBlockZ();
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                for (int y = -64; y < 100; y++)
+                {
+                    blackhole.consume(chunkDataGenerator.generateRock(blockX + x, y, blockZ + z, 100, cache));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.dries007.tfc.common.blocks.TFCBlocks;
+import net.dries007.tfc.common.blocks.wood.Wood;
+import net.dries007.tfc.common.recipes.ingredients.BlockIngredient;
+import net.dries007.tfc.test.TestSetup;
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.data.Support;
+import net.dries007.tfc.util.data.SupportIndex;
+
+/**
+ * Benchmarks collapse support checks in a dense mine: a solid volume of stone, with parallel tunnels, each with a horizontal support beam every
+ * few blocks. Each invocation checks a new position along a tunnel, comparing a scan of every block around the position with a query of a
+ * (warm) {@link SupportIndex}.
+ * <ul>
+ *     <li>{@code findUnsupported*} matches the check done when a player mines a block, see {@link net.dries007.tfc.common.recipes.CollapseRecipe#tryTriggerCollapse}</li>
+ *     <li>{@code isSupported*} matches the check done for a single block, i.e. for landslides</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SupportBenchmark
+{
+    private static final int SIZE_XZ = 128, SIZE_Y = 32;
+    private static final int TUNNEL_SPACING = 6, TUNNEL_Y = 12, BEAM_SPACING = 5;
+
+    private Mine mine;
+    private SupportIndex index;
+    private int step;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        TestSetup.beforeAll();
+
+        final BlockState beam = TFCBlocks.WOODS.get(Wood.OAK).get(Wood.BlockType.HORIZONTAL_SUPPORT).get().defaultBlockState();
+        Support.MANAGER.bindValues(Map.of(Helpers.identifier("horizontal_support_beam"), new Support(BlockIngredient.of(beam.getBlock()), 2, 2, 4)));
+        Support.CACHE.reload(Support.MANAGER.getValues());
+        Support.updateMaximumSupportRange();
+
+        mine = new Mine(beam);
+        index = new SupportIndex(mine);
+    }
+
+    @Benchmark
+    public Set<BlockPos> findUnsupportedScan()
+    {
+        final BlockPos pos = nextPos();
+        return Support.findUnsupportedPositions(mine, pos.offset(-4, -2, -4), pos.offset(4, 2, 4));
+    }
+
+    @Benchmark
+    public Set<BlockPos> findUnsupportedIndexed()
+    {
+        final BlockPos pos = nextPos();
+        return Support.findUnsupportedPositions(index, pos.offset(-4, -2, -4), pos.offset(4, 2, 4));
+    }
+
+    @Benchmark
+    public boolean isSupportedScan()
+    {
+        return Support.isSupported(mine, nextPos());
+    }
+
+    @Benchmark
+    public boolean isSupportedIndexed()
+    {
+        return Support.isSupported(index, nextPos());
+    }
+
+    private BlockPos nextPos()
+    {
+        // Walk along each tunnel in turn, at head height
+        step++;
+        final int x = 8 + step % (SIZE_XZ - 16);
+        final int z = TUNNEL_SPACING * (1 + (step / (SIZE_XZ - 16)) % (SIZE_XZ / TUNNEL_SPACING - 2));
+        return new BlockPos(x, TUNNEL_Y + 1, z);
+    }
+
+    record Mine(BlockState beam) implements BlockGetter
+    {
+        @Override
+        public BlockState getBlockState(BlockPos pos)
+        {
+            final int x = pos.getX(), y = pos.getY(), z = pos.getZ();
+            if (x < 0 || x >= SIZE_XZ || z < 0 || z >= SIZE_XZ || y < TUNNEL_Y || y > TUNNEL_Y + 2 || z % TUNNEL_SPACING != 0)
+            {
+                return Blocks.STONE.defaultBlockState();
+            }
+            return y == TUNNEL_Y + 2 && x % BEAM_SPACING == 0 ? beam : Blocks.AIR.defaultBlockState();
+        }
+
+        @Nullable
+        @Override
+        public BlockEntity getBlockEntity(BlockPos pos)
+        {
+            return null;
+        }
+
+        @Override
+        public FluidState getFluidState(BlockPos pos)
+        {
+            return getBlockState(pos).getFluidState();
+        }
+
+        @Override
+        public int getHeight()
+        {
+            return SIZE_Y;
+        }
+
+        @Override
+        public int getMinBuildHeight()
+        {
+            return 0;
+        }
+    }
+}
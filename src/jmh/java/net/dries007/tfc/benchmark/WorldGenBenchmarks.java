@@ -0,0 +1,39 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.io.File;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for the {@code jmh} gradle task. JMH is run in-process ({@code forks = 0}), since the unit test launcher is responsible for
+ * bootstrapping Minecraft and TFC, which a forked JVM would not have. This makes absolute numbers slightly noisier than a forked run, but they
+ * are still useful for comparisons between builds on the same machine.
+ */
+public class WorldGenBenchmarks
+{
+    @Test
+    public void runBenchmarks() throws RunnerException
+    {
+        final String output = System.getProperty("tfc.jmh.output", "jmh-results.json");
+        final Options options = new OptionsBuilder()
+            .include(WorldGenBenchmarks.class.getPackageName() + "\\..*(" + System.getProperty("tfc.jmh.include", ".*") + ").*")
+            .forks(0)
+            .shouldFailOnError(true)
+            .resultFormat(ResultFormatType.JSON)
+            .result(output)
+            .build();
+
+        new File(output).getAbsoluteFile().getParentFile().mkdirs();
+        new Runner(options).run();
+    }
+}
@@ -108,6 +108,7 @@ import net.neoforged.neoforge.event.entity.player.PlayerEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerInteractEvent;
 import net.neoforged.neoforge.event.entity.player.UseItemOnBlockEvent;
 import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.event.level.ChunkEvent;
 import net.neoforged.neoforge.event.level.ChunkWatchEvent;
 import net.neoforged.neoforge.event.level.ExplosionEvent;
 import net.neoforged.neoforge.event.level.LevelEvent;
@@ -123,6 +124,7 @@ import net.dries007.tfc.client.TFCSounds;
 import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.blockentities.AbstractFirepitBlockEntity;
 import net.dries007.tfc.common.blockentities.BlastFurnaceBlockEntity;
+import net.dries007.tfc.common.blockentities.BlockEntitySyncStats;
 import net.dries007.tfc.common.blockentities.BloomeryBlockEntity;
 import net.dries007.tfc.common.blockentities.BowlBlockEntity;
 import net.dries007.tfc.common.blockentities.CharcoalForgeBlockEntity;
@@ -131,6 +133,7 @@ import net.dries007.tfc.common.blockentities.LampBlockEntity;
 import net.dries007.tfc.common.blockentities.PitKilnBlockEntity;
 import net.dries007.tfc.common.blockentities.PowderkegBlockEntity;
 import net.dries007.tfc.common.blockentities.TFCBlockEntities;
+import net.dries007.tfc.common.blockentities.TFCBlockEntity;
 import net.dries007.tfc.common.blockentities.TickCounterBlockEntity;
 import net.dries007.tfc.common.blocks.CharcoalPileBlock;
 import net.dries007.tfc.common.blocks.TFCBlocks;
@@ -216,6 +219,7 @@ public final class ForgeEventHandler
 
         bus.addListener(ForgeEventHandler::onCreateWorldSpawn);
         bus.addListener(ForgeEventHandler::onChunkWatch);
+        bus.addListener(ForgeEventHandler::onChunkUnload);
         bus.addListener(EventPriority.LOW, ForgeEventHandler::registerCommands); // Must come after neo, since we take over `/neoforge day`
         bus.addListener(ForgeEventHandler::onBlockBroken);
         bus.addListener(ForgeEventHandler::onBlockPlace);
@@ -241,6 +245,7 @@ public final class ForgeEventHandler
         bus.addListener(ForgeEventHandler::onEntityJoinLevel);
         bus.addListener(ForgeEventHandler::onItemExpire);
         bus.addListener(ForgeEventHandler::onPlayerLoggedIn);
+        bus.addListener(ForgeEventHandler::onPlayerLoggedOut);
         bus.addListener(ForgeEventHandler::onPlayerRespawn);
         bus.addListener(ForgeEventHandler::onPlayerDeath);
         bus.addListener(ForgeEventHandler::onPlayerChangeDimension);
@@ -329,6 +334,26 @@ public final class ForgeEventHandler
         {
             PacketDistributor.sendToPlayer(event.getPlayer(), chunkData.getUpdatePacket());
         }
+
+        // The player was sent the full state of block entities in this chunk, so any delta synced block entities need to sync in full next
+        for (BlockEntity entity : event.getChunk().getBlockEntities().values())
+        {
+            if (entity instanceof TFCBlockEntity tfcEntity)
+            {
+                tfcEntity.resetSyncBaseline();
+            }
+        }
+    }
+
+    public static void onChunkUnload(ChunkEvent.Unload event)
+    {
+        if (event.getLevel() instanceof ServerLevel level)
+        {
+            final WorldTracker tracker = WorldTracker.get(level);
+            tracker.getSupportIndex().onChunkUnloaded(event.getChunk().getPos());
+            tracker.getNestBoxIndex().onChunkUnloaded(event.getChunk().getPos());
+            tracker.getHydrationCache().onChunkUnloaded(event.getChunk().getPos());
+        }
     }
 
     public static void registerCommands(RegisterCommandsEvent event)
@@ -393,6 +418,9 @@ public final class ForgeEventHandler
     {
         if (event.getLevel() instanceof final ServerLevel level)
         {
+            WorldTracker.get(level).getSupportIndex().onBlockChanged(event.getPos(), event.getState());
+            WorldTracker.get(level).getHydrationCache().onBlockChanged(event.getPos(), event.getState());
+
             for (Direction direction : event.getNotifiedSides())
             {
                 // Check each notified block for a potential gravity block
@@ -423,6 +451,7 @@ public final class ForgeEventHandler
 
     public static void onWorldTick(LevelTickEvent.Pre event)
     {
+        WorldTracker.get(event.getLevel()).getRotationManager().applyPendingChanges();
         if (event.getLevel() instanceof ServerLevel level)
         {
             WorldTracker.get(level).tick();
@@ -1113,6 +1142,14 @@ public final class ForgeEventHandler
         onNewPlayerInWorld(event.getEntity());
     }
 
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event)
+    {
+        if (event.getEntity() instanceof ServerPlayer player)
+        {
+            BlockEntitySyncStats.remove(player);
+        }
+    }
+
     public static void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event)
     {
         onNewPlayerInWorld(event.getEntity());
@@ -384,6 +384,7 @@ public class ClientForgeEventHandler
         {
             Calendars.CLIENT.resetToDefault();
             IndirectHashCollection.clearAllCaches();
+            ClimateColorCache.clear();
         }
     }
 
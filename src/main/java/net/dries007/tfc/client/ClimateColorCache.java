@@ -0,0 +1,104 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.client;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import it.unimi.dsi.fastutil.HashCommon;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+import net.dries007.tfc.util.calendar.Calendars;
+import net.dries007.tfc.util.calendar.ICalendar;
+import net.dries007.tfc.util.climate.Climate;
+import net.dries007.tfc.util.climate.ClimateModel;
+
+/**
+ * A cache of color map indices, used for tinting blocks (grass, foliage, water) during chunk meshing. Without this, each tinted vertex queries
+ * the climate model for both temperature and groundwater, which dominates chunk rebuild time at large render distances.
+ * <p>
+ * Indices are stored per block, in a small, fixed number of recently meshed chunk sections. Each section is valid for a single calendar hour,
+ * after which it is recomputed the next time it is meshed. Sections are invalidated when the climate of their chunk is synced.
+ * This is safe to access from multiple meshing threads: sections are replaced atomically, and racing writes to a section store identical values.
+ */
+public final class ClimateColorCache
+{
+    private static final int CAPACITY = 256;
+    private static final int UNKNOWN = -1;
+
+    private static final AtomicReferenceArray<Section> SECTIONS = new AtomicReferenceArray<>(CAPACITY);
+
+    /**
+     * @return An index into a color map, computed from the temperature and groundwater at {@code pos}.
+     * @see TFCColors#getClimateColorIndex(float, float)
+     */
+    public static int getColorIndex(Level level, BlockPos pos)
+    {
+        final long key = SectionPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getY()), SectionPos.blockToSectionCoord(pos.getZ()));
+        final long hour = Calendars.CLIENT.getCalendarTicks() / ICalendar.CALENDAR_TICKS_IN_HOUR;
+        final int slot = (int) HashCommon.mix(key) & (CAPACITY - 1);
+
+        Section section = SECTIONS.get(slot);
+        if (section == null || section.key != key || section.hour != hour || section.level != level)
+        {
+            section = new Section(level, key, hour);
+            SECTIONS.set(slot, section);
+        }
+
+        final int index = (pos.getX() & 15) | ((pos.getZ() & 15) << 4) | ((pos.getY() & 15) << 8);
+        int value = section.indices[index];
+        if (value == UNKNOWN)
+        {
+            final ClimateModel model = Climate.get(level);
+            value = TFCColors.getClimateColorIndex(model.getTemperature(level, pos), model.getGroundwater(level, pos));
+            section.indices[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Invalidates all cached sections in the given chunk, called when the climate of that chunk is synced.
+     */
+    public static void invalidate(ChunkPos pos)
+    {
+        for (int slot = 0; slot < CAPACITY; slot++)
+        {
+            final Section section = SECTIONS.get(slot);
+            if (section != null && SectionPos.x(section.key) == pos.x && SectionPos.z(section.key) == pos.z)
+            {
+                SECTIONS.compareAndSet(slot, section, null);
+            }
+        }
+    }
+
+    public static void clear()
+    {
+        for (int slot = 0; slot < CAPACITY; slot++)
+        {
+            SECTIONS.set(slot, null);
+        }
+    }
+
+    static final class Section
+    {
+        final Level level;
+        final long key;
+        final long hour;
+        final int[] indices = new int[16 * 16 * 16];
+
+        Section(Level level, long key, long hour)
+        {
+            this.level = level;
+            this.key = key;
+            this.hour = hour;
+
+            Arrays.fill(indices, UNKNOWN);
+        }
+    }
+}
@@ -115,7 +115,7 @@ public final class TFCColors
 
     public static int getWaterColor(@Nullable BlockPos pos)
     {
-        return pos != null ? getClimateColor(WATER_COLORS_CACHE, pos) : -1;
+        return pos != null ? getCachedClimateColor(WATER_COLORS_CACHE, pos) : -1;
     }
 
     public static int getWaterFogColor(CommonLevelAccessor level, Biome biome, BlockPos pos)
@@ -158,7 +158,7 @@ public final class TFCColors
         }
         else if (timeOfYear > springStart)
         {
-            return getClimateColor(FOLIAGE_COLORS_CACHE, pos);
+            return getCachedClimateColor(FOLIAGE_COLORS_CACHE, pos);
         }
         else
         {
@@ -172,7 +172,7 @@ public final class TFCColors
         {
             if (pos != null)
             {
-                return getClimateColor(FOLIAGE_COLORS_CACHE, pos);
+                return getCachedClimateColor(FOLIAGE_COLORS_CACHE, pos);
             }
             return getClimateColor(FOLIAGE_COLORS_CACHE, 10f, 250f); // Default values
         }
@@ -185,7 +185,7 @@ public final class TFCColors
         {
             if (pos != null)
             {
-                return getClimateColor(GRASS_COLORS_CACHE, pos);
+                return getCachedClimateColor(GRASS_COLORS_CACHE, pos);
             }
             return getClimateColor(GRASS_COLORS_CACHE, 10f, 250f); // Default values
         }
@@ -198,7 +198,7 @@ public final class TFCColors
         {
             if (pos != null)
             {
-                return getClimateColor(TALL_GRASS_COLORS_CACHE, pos);
+                return getCachedClimateColor(TALL_GRASS_COLORS_CACHE, pos);
             }
             return getClimateColor(TALL_GRASS_COLORS_CACHE, 10f, 250f); // Default values
         }
@@ -221,6 +221,20 @@ public final class TFCColors
         return 0;
     }
 
+    /**
+     * Like {@link #getClimateColor(int[], BlockPos)}, but reads the climate through the {@link ClimateColorCache}. This should be used for block
+     * tinting, which is queried for every vertex during chunk meshing.
+     */
+    private static int getCachedClimateColor(int[] colorCache, BlockPos pos)
+    {
+        final Level level = ClientHelpers.getLevel();
+        if (level != null)
+        {
+            return colorCache[ClimateColorCache.getColorIndex(level, pos)];
+        }
+        return 0;
+    }
+
     private static int getAverageClimateColor(int[] colorCache, BlockPos pos, float averageTemperature)
     {
         final Level level = ClientHelpers.getLevel();
@@ -237,10 +251,15 @@ public final class TFCColors
      * Queries a color map based on temperature and groundwater parameters. Temperature is horizontal, left is high. Groundwater is vertical, up is high.
      */
     private static int getClimateColor(int[] colorCache, float temperature, float groundwater)
+    {
+        return colorCache[getClimateColorIndex(temperature, groundwater)];
+    }
+
+    static int getClimateColorIndex(float temperature, float groundwater)
     {
         final int temperatureIndex = 255 - Mth.clamp((int) ((temperature + 20f) * 255f / 50f), 0, 255);
         final int rainfallIndex = 255 - Mth.clamp((int) (groundwater * 255f / 500f), 0, 255);
-        return colorCache[temperatureIndex | (rainfallIndex << 8)];
+        return temperatureIndex | (rainfallIndex << 8);
     }
 
     private static int getAutumnColor(int[] colorCache, float timeOfYear, float autumnStart, float autumnEnd, BlockPos pos, int autumnIndex)
@@ -63,9 +63,11 @@ import net.dries007.tfc.common.component.size.Weight;
 import net.dries007.tfc.common.container.BarrelContainer;
 import net.dries007.tfc.common.fluids.FluidHelpers;
 import net.dries007.tfc.common.recipes.BarrelRecipe;
+import net.dries007.tfc.common.recipes.BarrelRecipeCache;
+import net.dries007.tfc.common.recipes.InstantBarrelRecipe;
+import net.dries007.tfc.common.recipes.InstantFluidBarrelRecipe;
 import net.dries007.tfc.common.recipes.RecipeHelpers;
 import net.dries007.tfc.common.recipes.SealedBarrelRecipe;
-import net.dries007.tfc.common.recipes.TFCRecipeTypes;
 import net.dries007.tfc.common.recipes.input.NonEmptyInput;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
@@ -130,13 +132,16 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
         if (barrel.needsInstantRecipeUpdate)
         {
             barrel.needsInstantRecipeUpdate = false;
-            if (barrel.inventory.excess.isEmpty()) // Excess must be empty for instant recipes to apply
+            // Excess must be empty for instant recipes to apply
+            // Skip the lookup if the last one failed and the inputs have not changed since, i.e. if only the output slot was modified
+            if (barrel.inventory.excess.isEmpty() && (barrel.lastInstantRecipeMiss == null || !barrel.lastInstantRecipeMiss.matches(barrel.inventory)))
             {
-                RecipeHolder<? extends BarrelRecipe> instantRecipe = BarrelRecipe.get(level, TFCRecipeTypes.BARREL_INSTANT, barrel.inventory);
+                RecipeHolder<? extends BarrelRecipe> instantRecipe = InstantBarrelRecipe.CACHE.get(barrel.inventory);
                 if (instantRecipe == null)
                 {
-                    instantRecipe = BarrelRecipe.get(level, TFCRecipeTypes.BARREL_INSTANT_FLUID, barrel.inventory);
+                    instantRecipe = InstantFluidBarrelRecipe.CACHE.get(barrel.inventory);
                 }
+                barrel.lastInstantRecipeMiss = instantRecipe == null ? BarrelRecipeCache.Signature.of(barrel.inventory) : null;
                 if (instantRecipe != null)
                 {
                     instantRecipe.value().assembleOutputs(barrel.inventory);
@@ -187,6 +192,7 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
     private int soundCooldownTicks = 0;
 
     private boolean needsInstantRecipeUpdate; // If the instant recipe needs to be checked again
+    private @Nullable BarrelRecipeCache.Signature lastInstantRecipeMiss; // The inputs of the last instant recipe check, if it found no recipe
 
     public BarrelBlockEntity(BlockPos pos, BlockState state)
     {
@@ -505,7 +511,7 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
         {
             // Only find a recipe if we have an empty excess inventory
             recipe.load(inventory.excess.isEmpty()
-                ? BarrelRecipe.get(level, TFCRecipeTypes.BARREL_SEALED, inventory)
+                ? SealedBarrelRecipe.CACHE.get(inventory)
                 : null);
         }
         return RecipeHelpers.unbox(recipe.value());
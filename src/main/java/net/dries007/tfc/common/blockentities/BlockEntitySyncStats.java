@@ -0,0 +1,75 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.blockentities;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import net.minecraft.server.level.ServerPlayer;
+
+/**
+ * Per-player counters of the data used to sync block entities to clients, comparing the data actually sent with the data that would have been
+ * sent if every sync sent the full update tag. Sizes are estimated from the size of the tags being sent. This is server only.
+ */
+public final class BlockEntitySyncStats
+{
+    private static final Map<UUID, long[]> STATS = new HashMap<>();
+
+    static void record(ServerPlayer player, boolean delta, int fullBytes, int sentBytes)
+    {
+        final long[] stats = STATS.computeIfAbsent(player.getUUID(), key -> new long[5]);
+        stats[delta ? 1 : 0]++;
+        stats[3] += fullBytes;
+        stats[4] += sentBytes;
+    }
+
+    /**
+     * Records a sync which sent nothing, as nothing had changed since the last sync.
+     */
+    static void recordSkipped(ServerPlayer player, int fullBytes)
+    {
+        final long[] stats = STATS.computeIfAbsent(player.getUUID(), key -> new long[5]);
+        stats[2]++;
+        stats[3] += fullBytes;
+    }
+
+    /**
+     * Drops the counters for a player, when they log out.
+     */
+    public static void remove(ServerPlayer player)
+    {
+        STATS.remove(player.getUUID());
+    }
+
+    public static Stats get(ServerPlayer player)
+    {
+        final long[] stats = STATS.get(player.getUUID());
+        return stats == null ? new Stats(0, 0, 0, 0, 0) : new Stats(stats[0], stats[1], stats[2], stats[3], stats[4]);
+    }
+
+    public static Stats total()
+    {
+        final long[] total = new long[5];
+        for (long[] stats : STATS.values())
+        {
+            for (int i = 0; i < total.length; i++)
+            {
+                total[i] += stats[i];
+            }
+        }
+        return new Stats(total[0], total[1], total[2], total[3], total[4]);
+    }
+
+    /**
+     * @param fullPackets The number of syncs that sent the full update tag
+     * @param deltaPackets The number of syncs that sent only a delta
+     * @param skippedSyncs The number of syncs that sent nothing, as nothing had changed
+     * @param fullBytes The bytes that would have been sent if every sync sent the full update tag
+     * @param sentBytes The bytes actually sent
+     */
+    public record Stats(long fullPackets, long deltaPackets, long skippedSyncs, long fullBytes, long sentBytes) {}
+}
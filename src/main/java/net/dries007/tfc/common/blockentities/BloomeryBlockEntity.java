@@ -7,7 +7,6 @@
 package net.dries007.tfc.common.blockentities;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -18,7 +17,6 @@ import net.minecraft.world.Containers;
 import net.minecraft.world.entity.EntitySelector;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.crafting.RecipeHolder;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
@@ -32,8 +30,6 @@ import net.dries007.tfc.common.blocks.devices.BloomeryBlock;
 import net.dries007.tfc.common.component.heat.HeatCapability;
 import net.dries007.tfc.common.recipes.BloomeryRecipe;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
-import net.dries007.tfc.common.recipes.RecipeHelpers;
-import net.dries007.tfc.common.recipes.TFCRecipeTypes;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.CalendarTransaction;
@@ -317,25 +313,19 @@ public class BloomeryBlockEntity extends TickableBlockEntity implements ICalenda
         {
             assert inputStacks.isEmpty(); // If the cached recipe is null, we must have no inputs
 
-            final Collection<RecipeHolder<BloomeryRecipe>> recipes = RecipeHelpers.getRecipes(level, TFCRecipeTypes.BLOOMERY);
-
-            loop:
             for (ItemEntity entity : itemEntities)
             {
-                // Optimization: pre-melt each input stack, and only check against the bloomery recipe's fluid input
+                // Optimization: pre-melt each input stack, and only check against the bloomery recipes for that fluid
                 final @Nullable HeatingRecipe heat = HeatingRecipe.getRecipe(entity.getItem());
                 if (heat != null)
                 {
-                    final FluidStack fluid = heat.assembleFluid(entity.getItem());
-                    for (RecipeHolder<BloomeryRecipe> recipe : recipes)
+                    final @Nullable BloomeryRecipe recipe = BloomeryRecipe.get(heat.assembleFluid(entity.getItem()));
+                    if (recipe != null)
                     {
-                        if (recipe.value().matchesInput(fluid))
-                        {
-                            // Located a recipe that matches a primary input, so break
-                            cachedRecipe = recipe.value();
-                            markForSync();
-                            break loop;
-                        }
+                        // Located a recipe that matches a primary input, so break
+                        cachedRecipe = recipe;
+                        markForSync();
+                        break;
                     }
                 }
             }
@@ -459,22 +449,18 @@ public class BloomeryBlockEntity extends TickableBlockEntity implements ICalenda
 
         cachedRecipe = null;
 
-        final Collection<RecipeHolder<BloomeryRecipe>> recipes = RecipeHelpers.getRecipes(level, TFCRecipeTypes.BLOOMERY);
         for (ItemStack stack : inputStacks)
         {
-            // Optimization: pre-melt each input stack, and only check against the bloomery recipe's fluid input
+            // Optimization: pre-melt each input stack, and only check against the bloomery recipes for that fluid
             final @Nullable HeatingRecipe heat = HeatingRecipe.getRecipe(stack);
             if (heat != null)
             {
-                final FluidStack fluid = heat.assembleFluid(stack);
-                for (RecipeHolder<BloomeryRecipe> recipe : recipes)
+                final @Nullable BloomeryRecipe recipe = BloomeryRecipe.get(heat.assembleFluid(stack));
+                if (recipe != null)
                 {
-                    if (recipe.value().matchesInput(fluid))
-                    {
-                        // Located a recipe that matches one of our primary inputs
-                        cachedRecipe = recipe.value();
-                        return;
-                    }
+                    // Located a recipe that matches one of our primary inputs
+                    cachedRecipe = recipe;
+                    return;
                 }
             }
         }
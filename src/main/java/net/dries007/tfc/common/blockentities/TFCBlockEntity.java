@@ -6,19 +6,32 @@
 
 package net.dries007.tfc.common.blockentities;
 
+import java.util.List;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.Connection;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.neoforge.network.PacketDistributor;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.network.BlockEntityDeltaPacket;
+import net.dries007.tfc.util.NbtDelta;
 
 public abstract class TFCBlockEntity extends BlockEntity
 {
+    /**
+     * Only used if {@link #isDeltaSynced()}. On server, this is the update tag last sent to all players watching this block entity, or
+     * {@code null} if players may have been sent a different tag. On client, this is the update tag last received.
+     */
+    private @Nullable CompoundTag lastSyncedTag;
+
     protected TFCBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState state)
     {
         super(type, pos, state);
@@ -30,7 +43,12 @@ public abstract class TFCBlockEntity extends BlockEntity
     @Override
     public final ClientboundBlockEntityDataPacket getUpdatePacket()
     {
-        return ClientboundBlockEntityDataPacket.create(this);
+        final CompoundTag tag = getUpdateTag(level.registryAccess());
+        if (isDeltaSynced())
+        {
+            lastSyncedTag = tag;
+        }
+        return ClientboundBlockEntityDataPacket.create(this, (entity, registries) -> tag);
     }
 
     /**
@@ -40,6 +58,23 @@ public abstract class TFCBlockEntity extends BlockEntity
     public final void onDataPacket(Connection net, ClientboundBlockEntityDataPacket packet, HolderLookup.Provider provider)
     {
         super.onDataPacket(net, packet, provider);
+        if (isDeltaSynced())
+        {
+            lastSyncedTag = packet.getTag().copy();
+        }
+    }
+
+    /**
+     * Handle a delta sent from {@link #sendSyncPacket()}, by applying it to the last update tag received, and loading the result with
+     * {@link #loadWithComponents(CompoundTag, HolderLookup.Provider)}.
+     */
+    public final void handleSyncDelta(CompoundTag delta, HolderLookup.Provider provider)
+    {
+        if (lastSyncedTag != null)
+        {
+            NbtDelta.apply(lastSyncedTag, delta);
+            loadWithComponents(lastSyncedTag.copy(), provider);
+        }
     }
 
     /**
@@ -63,6 +98,10 @@ public abstract class TFCBlockEntity extends BlockEntity
     public final void handleUpdateTag(CompoundTag tag, HolderLookup.Provider provider)
     {
         super.handleUpdateTag(tag, provider);
+        if (isDeltaSynced())
+        {
+            lastSyncedTag = tag.copy();
+        }
     }
 
     @Override
@@ -116,7 +155,7 @@ public abstract class TFCBlockEntity extends BlockEntity
      */
     public void markForSync()
     {
-        sendVanillaUpdatePacket();
+        sendSyncPacket();
         setChanged();
     }
 
@@ -140,4 +179,76 @@ public abstract class TFCBlockEntity extends BlockEntity
             serverLevel.getChunkSource().chunkMap.getPlayers(new ChunkPos(pos), false).forEach(e -> e.connection.send(packet));
         }
     }
+
+    /**
+     * Syncs this block entity to all players watching it. If this block entity is delta synced, this only sends the parts of the update tag
+     * that have changed since the last sync, or nothing at all if none have changed.
+     */
+    public final void sendSyncPacket()
+    {
+        if (!isDeltaSynced())
+        {
+            sendVanillaUpdatePacket();
+            return;
+        }
+        if (level instanceof ServerLevel serverLevel)
+        {
+            final List<ServerPlayer> players = serverLevel.getChunkSource().chunkMap.getPlayers(new ChunkPos(worldPosition), false);
+            if (players.isEmpty())
+            {
+                lastSyncedTag = null; // Any player that starts watching will be sent the full tag with the chunk
+                return;
+            }
+
+            final @Nullable CompoundTag previousTag = lastSyncedTag;
+            final CompoundTag tag = getUpdateTag(serverLevel.registryAccess());
+            final @Nullable CompoundTag delta = previousTag == null ? null : NbtDelta.diff(previousTag, tag);
+            final int fullBytes = tag.sizeInBytes();
+            if (previousTag != null && delta == null)
+            {
+                // Nothing has changed since the last sync
+                players.forEach(player -> BlockEntitySyncStats.recordSkipped(player, fullBytes));
+                return;
+            }
+
+            lastSyncedTag = tag;
+            if (delta != null && delta.sizeInBytes() < fullBytes)
+            {
+                final BlockEntityDeltaPacket packet = new BlockEntityDeltaPacket(worldPosition, delta);
+                final int deltaBytes = delta.sizeInBytes();
+                for (ServerPlayer player : players)
+                {
+                    PacketDistributor.sendToPlayer(player, packet);
+                    BlockEntitySyncStats.record(player, true, fullBytes, deltaBytes);
+                }
+            }
+            else
+            {
+                final ClientboundBlockEntityDataPacket packet = ClientboundBlockEntityDataPacket.create(this, (entity, registries) -> tag);
+                for (ServerPlayer player : players)
+                {
+                    player.connection.send(packet);
+                    BlockEntitySyncStats.record(player, false, fullBytes, fullBytes);
+                }
+            }
+        }
+    }
+
+    /**
+     * Called on server when a player starts watching this block entity, and so has been sent the full update tag with the chunk. This means
+     * watching players may no longer all have the same tag, so the next sync must send the full tag.
+     */
+    public final void resetSyncBaseline()
+    {
+        lastSyncedTag = null;
+    }
+
+    /**
+     * @return {@code true} if this block entity should sync only the changed parts of its update tag, see {@link #sendSyncPacket()}. This
+     * requires keeping a copy of the last synced tag, on both server and client, so it is only worthwhile for block entities which sync often.
+     */
+    protected boolean isDeltaSynced()
+    {
+        return false;
+    }
 }
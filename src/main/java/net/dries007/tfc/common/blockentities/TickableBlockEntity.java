@@ -13,7 +13,7 @@ import net.minecraft.world.level.block.state.BlockState;
 
 /**
  * Like {@link TickableInventoryBlockEntity} for blocks without an inventory. Batches sync updates to at most happen once per
- * tick, because the block entity should be ticking naturally anyway.
+ * tick, because the block entity should be ticking naturally anyway. Syncs only send the parts of the update tag that have changed, see {@link TFCBlockEntity#sendSyncPacket()}.
  */
 public abstract class TickableBlockEntity extends TFCBlockEntity
 {
@@ -38,4 +38,10 @@ public abstract class TickableBlockEntity extends TFCBlockEntity
     {
         needsClientUpdate = true;
     }
+
+    @Override
+    protected boolean isDeltaSynced()
+    {
+        return true;
+    }
 }
@@ -15,7 +15,7 @@ import net.neoforged.neoforge.items.IItemHandlerModifiable;
 
 /**
  * An extension of {@link InventoryBlockEntity} for block entities that are ticking. This batches sync updates so that they
- * only occur at most once per tick.
+ * only occur at most once per tick, and only send the parts of the update tag that have changed, see {@link TFCBlockEntity#sendSyncPacket()}.
  */
 public abstract class TickableInventoryBlockEntity<C extends IItemHandlerModifiable & INBTSerializable<CompoundTag>> extends InventoryBlockEntity<C>
 {
@@ -40,4 +40,10 @@ public abstract class TickableInventoryBlockEntity<C extends IItemHandlerModifia
     {
         needsClientUpdate = true;
     }
+
+    @Override
+    protected boolean isDeltaSynced()
+    {
+        return true;
+    }
 }
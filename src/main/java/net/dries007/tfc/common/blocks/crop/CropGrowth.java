@@ -0,0 +1,252 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.blocks.crop;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.common.blockentities.CropBlockEntity;
+import net.dries007.tfc.common.blockentities.FarmlandBlockEntity.NutrientType;
+import net.dries007.tfc.common.blockentities.IFarmland;
+import net.dries007.tfc.common.blocks.soil.FarmlandBlock;
+import net.dries007.tfc.config.TFCConfig;
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.calendar.Calendars;
+import net.dries007.tfc.util.calendar.ICalendar;
+import net.dries007.tfc.util.climate.Climate;
+import net.dries007.tfc.util.climate.ClimateRange;
+
+import static net.dries007.tfc.common.blocks.crop.CropHelpers.*;
+
+/**
+ * Simulates the growth of a single crop over a period of time, in steps of {@link CropHelpers#UPDATE_INTERVAL}. This is used to catch up a
+ * crop which has not been ticked for a long time, i.e. a farm which has been unloaded for a season.
+ * <ul>
+ *     <li>Inputs which do not change over the period - hydration, the climate range, the growth limit, and config modifiers - are computed once, rather than once per step.</li>
+ *     <li>Temperature is evaluated once per step boundary, and shared by the steps either side of it.</li>
+ *     <li>Nutrients are tracked locally, and only written back to the farmland (causing a sync) once, by {@link #applyNutrients()}.</li>
+ * </ul>
+ * Each step otherwise performs the same calculation, in the same order, including random calls, as stepping the crop one interval at a time.
+ */
+public final class CropGrowth
+{
+    public static CropGrowth create(Level level, BlockPos pos, BlockState state, CropBlockEntity crop)
+    {
+        final ICalendar calendar = Calendars.get(level);
+        final BlockPos sourcePos = pos.below();
+        final ICropBlock cropBlock = (ICropBlock) state.getBlock();
+        return new CropGrowth(
+            cropBlock.getClimateRange(),
+            FarmlandBlock.getHydration(level, sourcePos),
+            cropBlock.getGrowthLimit(level, pos, state),
+            TFCConfig.SERVER.cropGrowthModifier.get().floatValue(),
+            TFCConfig.SERVER.cropExpiryModifier.get().floatValue(),
+            cropBlock.getPrimaryNutrient(),
+            level.getBlockEntity(sourcePos) instanceof IFarmland farmland ? farmland : null,
+            tick -> Climate.getTemperature(level, pos, calendar, Calendars.SERVER.getFixedCalendarTicksFromTick(tick)),
+            crop.getGrowth(),
+            crop.getExpiry(),
+            crop.getYield()
+        );
+    }
+
+    private final ClimateRange range;
+    private final int hydration;
+    private final float growthLimit;
+    private final float growthModifier; // Higher = Slower growth
+    private final float localExpiryLimit;
+    private final NutrientType primaryNutrient;
+    private final @Nullable IFarmland farmland;
+    private final float[] nutrients; // Indexed by NutrientType#ordinal(), only used if there is farmland
+    private final TemperatureSource temperature;
+
+    private float growth, expiry, yield;
+
+    /**
+     * @param expiryModifier Higher = Slower expiry
+     * @param farmland The farmland below the crop, if any, which nutrients are consumed from.
+     */
+    public CropGrowth(ClimateRange range, int hydration, float growthLimit, float growthModifier, float expiryModifier, NutrientType primaryNutrient, @Nullable IFarmland farmland, TemperatureSource temperature, float growth, float expiry, float yield)
+    {
+        this.range = range;
+        this.hydration = hydration;
+        this.growthLimit = growthLimit;
+        this.growthModifier = growthModifier;
+        this.localExpiryLimit = EXPIRY_LIMIT * expiryModifier * (1f / growthModifier);
+        this.primaryNutrient = primaryNutrient;
+        this.farmland = farmland;
+        this.nutrients = new float[NutrientType.VALUES.length];
+        this.temperature = temperature;
+        this.growth = growth;
+        this.expiry = expiry;
+        this.yield = yield;
+
+        if (farmland != null)
+        {
+            for (NutrientType type : NutrientType.VALUES)
+            {
+                nutrients[type.ordinal()] = farmland.getNutrient(type);
+            }
+        }
+    }
+
+    /**
+     * Simulates growth from {@code fromTick} to {@code toTick}, both in player ticks.
+     *
+     * @return {@code true} if the crop survived. If not, the growth is that at the end of the step in which the crop died.
+     */
+    public boolean simulate(RandomSource random, long fromTick, long toTick)
+    {
+        long lastTick = fromTick;
+        float lastTemperature = temperature.getTemperature(fromTick);
+        while (lastTick < toTick)
+        {
+            final long tick = Math.min(lastTick + UPDATE_INTERVAL, toTick);
+            final float nextTemperature = temperature.getTemperature(tick);
+            if (!step(random, tick - lastTick, lastTemperature, nextTemperature))
+            {
+                return false;
+            }
+            lastTick = tick;
+            lastTemperature = nextTemperature;
+        }
+        return true;
+    }
+
+    /**
+     * Writes the nutrients consumed during simulation back to the farmland, if there is any.
+     */
+    public void applyNutrients()
+    {
+        if (farmland != null)
+        {
+            for (NutrientType type : NutrientType.VALUES)
+            {
+                if (farmland.getNutrient(type) != nutrients[type.ordinal()])
+                {
+                    farmland.setNutrient(type, nutrients[type.ordinal()]);
+                }
+            }
+        }
+    }
+
+    public float getGrowth()
+    {
+        return growth;
+    }
+
+    public float getExpiry()
+    {
+        return expiry;
+    }
+
+    public float getYield()
+    {
+        return yield;
+    }
+
+    private boolean step(RandomSource random, long tickDelta, float startTemperature, float endTemperature)
+    {
+        final boolean growing = checkClimate(startTemperature, endTemperature, false);
+        final boolean healthy = growing || checkClimate(startTemperature, endTemperature, true);
+
+        // Nutrients are consumed first, since they are independent of growth or health.
+        // As long as the crop exists it consumes nutrients.
+        float nutrientsAvailable = 0, nutrientsRequired = NUTRIENT_CONSUMPTION * tickDelta, nutrientsConsumed = 0;
+        if (farmland != null)
+        {
+            nutrientsAvailable = nutrients[primaryNutrient.ordinal()];
+            nutrientsConsumed = consumeNutrientAndResupplyOthers(nutrientsRequired);
+        }
+
+        // Total growth is based on the ticks and the nutrients consumed. It is then allocated to actual growth or expiry based on other factors.
+        final float totalGrowthDelta = (1f / growthModifier) * Helpers.uniform(random, 0.9f, 1.1f) * tickDelta * GROWTH_FACTOR + nutrientsConsumed * NUTRIENT_GROWTH_FACTOR;
+        final float initialGrowth = growth;
+        float remainingGrowthDelta = totalGrowthDelta;
+
+        // Re-scale expiry to within our imaginary limits
+        expiry *= localExpiryLimit / EXPIRY_LIMIT;
+
+        if (remainingGrowthDelta > 0 && growing && growth < growthLimit)
+        {
+            // Allocate to growth
+            final float delta = Math.min(remainingGrowthDelta, growthLimit - growth);
+
+            growth += delta;
+            remainingGrowthDelta -= delta;
+        }
+        if (remainingGrowthDelta > 0)
+        {
+            // Allocate remaining growth to expiry
+            final float delta = Math.min(remainingGrowthDelta, localExpiryLimit - expiry);
+
+            expiry += delta;
+        }
+
+        // Calculate yield, which depends both on a flat rate per growth, and on the nutrient satisfaction, which is a measure of nutrient consumption over the growth time.
+        final float growthDelta = growth - initialGrowth;
+        final float nutrientSatisfaction;
+        if (growthDelta <= 0 || nutrientsRequired <= 0)
+        {
+            nutrientSatisfaction = 1; // Either condition causes the below formula to result in NaN
+        }
+        else
+        {
+            nutrientSatisfaction = Math.min(1, (totalGrowthDelta / growthDelta) * (nutrientsAvailable / nutrientsRequired));
+        }
+
+        yield += growthDelta * Helpers.lerp(nutrientSatisfaction, YIELD_MIN, YIELD_LIMIT);
+
+        // Check if the crop should've expired.
+        if (expiry >= localExpiryLimit || !healthy)
+        {
+            // Lenient here - instead of assuming it expired at the start of the duration, we assume at the end. Including growth during this period.
+            return false;
+        }
+
+        // Re-scale expiry to constant values to maintain invariance if the config value is updated
+        expiry *= EXPIRY_LIMIT / localExpiryLimit;
+        return true;
+    }
+
+    /**
+     * Equivalent to {@link IFarmland#consumeNutrientAndResupplyOthers(NutrientType, float)}, on the local nutrients.
+     */
+    private float consumeNutrientAndResupplyOthers(float amount)
+    {
+        final float startValue = nutrients[primaryNutrient.ordinal()];
+        final float consumed = Math.min(startValue, amount);
+
+        nutrients[primaryNutrient.ordinal()] = Mth.clamp(startValue - consumed, 0, 1);
+        for (NutrientType other : NutrientType.VALUES)
+        {
+            if (other != primaryNutrient)
+            {
+                nutrients[other.ordinal()] = Mth.clamp(nutrients[other.ordinal()] + consumed * 1 / 6f, 0, 1);
+            }
+        }
+        return consumed;
+    }
+
+    private boolean checkClimate(float firstTemperature, float secondTemperature, boolean allowWiggle)
+    {
+        return range.checkBoth(hydration, firstTemperature, allowWiggle) && range.checkTemperature(secondTemperature, allowWiggle) == ClimateRange.Result.VALID;
+    }
+
+    @FunctionalInterface
+    public interface TemperatureSource
+    {
+        /**
+         * @return The temperature at the crop at the given player tick.
+         */
+        float getTemperature(long tick);
+    }
+}
@@ -7,6 +7,7 @@
 package net.dries007.tfc.common.blocks.devices;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.ItemInteractionResult;
@@ -21,6 +22,7 @@ import net.minecraft.world.phys.shapes.VoxelShape;
 import net.dries007.tfc.common.blockentities.TFCBlockEntities;
 import net.dries007.tfc.common.blocks.ExtendedProperties;
 import net.dries007.tfc.common.entities.misc.Seat;
+import net.dries007.tfc.util.tracker.WorldTracker;
 
 public class NestBoxBlock extends BottomSupportedDeviceBlock
 {
@@ -45,6 +47,16 @@ public class NestBoxBlock extends BottomSupportedDeviceBlock
         return ItemInteractionResult.PASS_TO_DEFAULT_BLOCK_INTERACTION;
     }
 
+    @Override
+    protected void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean isMoving)
+    {
+        super.onPlace(state, level, pos, oldState, isMoving);
+        if (level instanceof ServerLevel serverLevel && !oldState.is(state.getBlock()))
+        {
+            WorldTracker.get(serverLevel).getNestBoxIndex().onNestBoxChanged(pos, true);
+        }
+    }
+
     @Override
     protected void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean isMoving)
     {
@@ -54,5 +66,9 @@ public class NestBoxBlock extends BottomSupportedDeviceBlock
         {
             sitter.stopRiding();
         }
+        if (level instanceof ServerLevel serverLevel && !newState.is(state.getBlock()))
+        {
+            WorldTracker.get(serverLevel).getNestBoxIndex().onNestBoxChanged(pos, false);
+        }
     }
 }
@@ -31,6 +31,7 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.blockentities.TFCBlockEntities;
@@ -43,6 +44,7 @@ import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateModel;
 import net.dries007.tfc.util.climate.ClimateRange;
 import net.dries007.tfc.util.registry.RegistrySoilVariant;
+import net.dries007.tfc.util.tracker.WorldTracker;
 import net.dries007.tfc.world.chunkdata.ChunkData;
 
 public class FarmlandBlock extends Block implements ISoilBlock, HoeOverlayBlock, IForgeBlockExtension, EntityBlockExtension
@@ -91,17 +93,32 @@ public class FarmlandBlock extends Block implements ISoilBlock, HoeOverlayBlock,
     }
 
     /**
+     * On server, this is cached per position, see {@link net.dries007.tfc.util.tracker.HydrationCache}.
+     *
      * @return A value in the range [0, 100]
      */
     public static int getHydration(LevelAccessor level, BlockPos pos)
     {
-        if (Helpers.isFluid(level.getFluidState(pos.above()), TFCTags.Fluids.HYDRATING))
+        if (level instanceof ServerLevel serverLevel)
+        {
+            return WorldTracker.get(serverLevel).getHydrationCache().getHydration(serverLevel, pos);
+        }
+        return getHydration(level, pos, findNearestWater(level, pos));
+    }
+
+    /**
+     * @param waterPos The nearest hydrating fluid, as found by {@link #findNearestWater(LevelAccessor, BlockPos)}.
+     * @return A value in the range [0, 100]
+     */
+    public static int getHydration(LevelAccessor level, BlockPos pos, @Nullable BlockPos waterPos)
+    {
+        if (waterPos != null && waterPos.getY() > pos.getY())
         {
             return 100; // special case for waterlogged crops
         }
         final ChunkData data = ChunkData.get(level, pos);
         final float rainfall = data.getRainfall(pos); // Rainfall forms a baseline, providing up to 60% hydration
-        final int waterCost = findMinCostWater(level, pos); // Nearby water contributes an additional 0 - 80% hydration based on proximity
+        final int waterCost = waterPos == null ? 5 : getWaterCost(waterPos.getX() - pos.getX(), waterPos.getY() - pos.getY(), waterPos.getZ() - pos.getZ()); // Nearby water contributes an additional 0 - 80% hydration based on proximity
         return Mth.clamp((int) (60 * rainfall / ClimateModel.MAX_RAINFALL) + 20 * (5 - waterCost), 0, 100);
     }
 
@@ -111,26 +128,36 @@ public class FarmlandBlock extends Block implements ISoilBlock, HoeOverlayBlock,
     }
 
     /**
-     * @return A value in [1, 5]
+     * @return The position of the hydrating fluid which contributes the most hydration to farmland at {@code pos}, or {@code null} if there is none
+     * in range. This is either the fluid directly above, or the lowest cost fluid in a 9x9x2 area around and below {@code pos}.
      */
-    private static int findMinCostWater(LevelAccessor level, BlockPos pos)
+    @Nullable
+    public static BlockPos findNearestWater(LevelAccessor level, BlockPos pos)
     {
+        final BlockPos abovePos = pos.above();
+        if (Helpers.isFluid(level.getFluidState(abovePos), TFCTags.Fluids.HYDRATING))
+        {
+            return abovePos;
+        }
+
         final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
 
-        int minCostWater = 5;
+        BlockPos minCostWater = null;
+        int minCost = 5;
         for (int dx = -4; dx <= 4; dx++)
         {
             for (int dz = -4; dz <= 4; dz++)
             {
                 for (int dy = -1; dy <= 0; dy++)
                 {
-                    final int cost = Math.max(Math.abs(dx), Math.abs(dz)) + (-2 * dy);
-                    if (cost < minCostWater && Helpers.isFluid(level.getFluidState(cursor.setWithOffset(pos, dx, dy, dz)).getType(), TFCTags.Fluids.HYDRATING))
+                    final int cost = getWaterCost(dx, dy, dz);
+                    if (cost < minCost && Helpers.isFluid(level.getFluidState(cursor.setWithOffset(pos, dx, dy, dz)).getType(), TFCTags.Fluids.HYDRATING))
                     {
-                        minCostWater = cost;
-                        if (minCostWater == 1)
+                        minCost = cost;
+                        minCostWater = cursor.immutable();
+                        if (minCost == 1)
                         {
-                            return 1;
+                            return minCostWater;
                         }
                     }
                 }
@@ -139,6 +166,14 @@ public class FarmlandBlock extends Block implements ISoilBlock, HoeOverlayBlock,
         return minCostWater;
     }
 
+    /**
+     * @return The cost of water at the given offset from farmland, where a lower cost contributes more hydration. Only costs less than 5 contribute.
+     */
+    private static int getWaterCost(int dx, int dy, int dz)
+    {
+        return Math.max(Math.abs(dx), Math.abs(dz)) + (-2 * dy);
+    }
+
     private final ExtendedProperties properties;
     private final Supplier<? extends Block> dirt;
 
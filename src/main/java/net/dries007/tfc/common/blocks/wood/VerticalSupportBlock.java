@@ -11,6 +11,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.context.BlockPlaceContext;
@@ -41,6 +42,7 @@ import net.dries007.tfc.common.fluids.FluidHelpers;
 import net.dries007.tfc.common.fluids.FluidProperty;
 import net.dries007.tfc.common.fluids.IFluidLoggable;
 import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.tracker.WorldTracker;
 
 public class VerticalSupportBlock extends Block implements IForgeBlockExtension, IFluidLoggable, HorizontalPipeBlock
 {
@@ -108,6 +110,27 @@ public class VerticalSupportBlock extends Block implements IForgeBlockExtension,
         }
     }
 
+    @Override
+    protected void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean isMoving)
+    {
+        super.onPlace(state, level, pos, oldState, isMoving);
+        if (level instanceof ServerLevel serverLevel && !oldState.is(state.getBlock()))
+        {
+            // Supports are often placed without notifying neighbors, i.e. in setPlacedBy(), so update the index here
+            WorldTracker.get(serverLevel).getSupportIndex().onBlockChanged(pos, state);
+        }
+    }
+
+    @Override
+    protected void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean isMoving)
+    {
+        super.onRemove(state, level, pos, newState, isMoving);
+        if (level instanceof ServerLevel serverLevel && !newState.is(state.getBlock()))
+        {
+            WorldTracker.get(serverLevel).getSupportIndex().onBlockChanged(pos, newState);
+        }
+    }
+
     @Override
     protected BlockState updateShape(BlockState state, Direction facing, BlockState facingState, LevelAccessor level, BlockPos currentPos, BlockPos facingPos)
     {
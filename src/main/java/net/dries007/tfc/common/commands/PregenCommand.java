@@ -0,0 +1,92 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.commands;
+
+import java.util.Locale;
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.logging.LogUtils;
+import net.minecraft.Util;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import org.slf4j.Logger;
+
+import net.dries007.tfc.world.ChunkGeneratorExtension;
+import net.dries007.tfc.world.chunkdata.RegionChunkDataGenerator;
+import net.dries007.tfc.world.region.RegionGenerator;
+
+public final class PregenCommand
+{
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final String STARTING = "tfc.commands.pregen.starting";
+    private static final String DONE = "tfc.commands.pregen.done";
+    private static final String TASK_TIMING = "tfc.commands.pregen.task_timing";
+    private static final String INVALID_GENERATOR = "tfc.commands.pregen.invalid_generator";
+    private static final String NO_STORAGE = "tfc.commands.pregen.no_storage";
+    private static final String FAILED = "tfc.commands.pregen.failed";
+
+    public static LiteralArgumentBuilder<CommandSourceStack> create()
+    {
+        return Commands.literal("pregen")
+            .requires(source -> source.hasPermission(3))
+            .then(Commands.argument("radius", IntegerArgumentType.integer(1, 100_000))
+                .executes(cmd -> pregenerate(cmd.getSource(), IntegerArgumentType.getInteger(cmd, "radius")))
+            );
+    }
+
+    private static int pregenerate(CommandSourceStack source, int radius)
+    {
+        final ServerLevel level = source.getLevel();
+        if (!(level.getChunkSource().getGenerator() instanceof ChunkGeneratorExtension extension && extension.chunkDataGenerator() instanceof RegionChunkDataGenerator chunkDataGenerator))
+        {
+            source.sendFailure(Component.translatable(INVALID_GENERATOR));
+            return 0;
+        }
+
+        final RegionGenerator generator = chunkDataGenerator.regionGenerator();
+        if (!generator.hasStorage())
+        {
+            // Without region storage, pregenerated regions would only live in the in-memory cache, and would be lost or evicted
+            source.sendFailure(Component.translatable(NO_STORAGE));
+            return 0;
+        }
+
+        final BlockPos center = BlockPos.containing(source.getPosition());
+        final long start = Util.getMillis();
+
+        source.sendSuccess(() -> Component.translatable(STARTING, radius), true);
+        generator.pregenerate(center.getX(), center.getZ(), radius, Util.backgroundExecutor())
+            .thenAcceptAsync(count -> {
+                source.sendSuccess(() -> Component.translatable(DONE, count, Util.getMillis() - start), true);
+                sendTaskTimings(source, generator);
+            }, source.getServer())
+            .exceptionallyAsync(e -> {
+                LOGGER.error("Error pregenerating regions", e);
+                source.sendFailure(Component.translatable(FAILED, e.getMessage()));
+                return null;
+            }, source.getServer());
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static void sendTaskTimings(CommandSourceStack source, RegionGenerator generator)
+    {
+        final long regions = generator.regionsGenerated();
+        if (regions > 0)
+        {
+            for (RegionGenerator.Task task : RegionGenerator.Task.values())
+            {
+                final String millisPerRegion = String.format("%.2f", generator.taskNanos(task) / (1_000_000.0 * regions));
+                source.sendSuccess(() -> Component.translatable(TASK_TIMING, task.name().toLowerCase(Locale.ROOT), millisPerRegion), false);
+            }
+        }
+    }
+}
@@ -35,6 +35,9 @@ public final class TFCCommands
             .then(PropickCommand.create())
             .then(ForgeCommand.create())
             .then(AddTrimCommand.create(context))
+            .then(PregenCommand.create())
+            .then(WorldGenCommand.create())
+            .then(WorldTrackerCommand.create())
         );
 
         // For command modifications / replacements, we register directly
@@ -0,0 +1,106 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.commands;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+import net.dries007.tfc.world.FastConcurrentCache;
+import net.dries007.tfc.world.TFCChunkGenerator;
+import net.dries007.tfc.world.WorldGenProfiler;
+import net.dries007.tfc.world.chunkdata.RegionChunkDataGenerator;
+import net.dries007.tfc.world.region.RegionGenerator;
+
+public final class WorldGenCommand
+{
+    private static final String PROFILE_STARTED = "tfc.commands.worldgen.profile_started";
+    private static final String PROFILE_STOPPED = "tfc.commands.worldgen.profile_stopped";
+    private static final String RESET = "tfc.commands.worldgen.reset";
+    private static final String NOT_ENABLED = "tfc.commands.worldgen.not_enabled";
+    private static final String DUMPED = "tfc.commands.worldgen.dumped";
+    private static final String DUMP_FAILED = "tfc.commands.worldgen.dump_failed";
+    private static final String CACHE = "tfc.commands.worldgen.cache";
+
+    public static LiteralArgumentBuilder<CommandSourceStack> create()
+    {
+        return Commands.literal("worldgen")
+            .requires(source -> source.hasPermission(3))
+            .then(Commands.literal("profile")
+                .then(Commands.literal("start").executes(cmd -> setEnabled(cmd.getSource(), true)))
+                .then(Commands.literal("stop").executes(cmd -> setEnabled(cmd.getSource(), false)))
+                .then(Commands.literal("reset").executes(cmd -> reset(cmd.getSource())))
+            )
+            .then(Commands.literal("stats").executes(cmd -> stats(cmd.getSource())))
+            .then(Commands.literal("dump").executes(cmd -> dump(cmd.getSource())));
+    }
+
+    private static int setEnabled(CommandSourceStack source, boolean enabled)
+    {
+        WorldGenProfiler.setEnabled(enabled);
+        source.sendSuccess(() -> Component.translatable(enabled ? PROFILE_STARTED : PROFILE_STOPPED), true);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int reset(CommandSourceStack source)
+    {
+        WorldGenProfiler.reset();
+        source.sendSuccess(() -> Component.translatable(RESET), true);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int stats(CommandSourceStack source)
+    {
+        if (!WorldGenProfiler.isEnabled())
+        {
+            source.sendSuccess(() -> Component.translatable(NOT_ENABLED), false);
+        }
+        for (String line : WorldGenProfiler.describe())
+        {
+            source.sendSuccess(() -> Component.literal(line), false);
+        }
+        if (source.getLevel().getChunkSource().getGenerator() instanceof TFCChunkGenerator generator)
+        {
+            sendCacheStats(source, "aquifer", generator.aquiferCache());
+            sendCacheStats(source, "base_height", generator.baseHeightCache());
+            if (generator.chunkDataGenerator() instanceof RegionChunkDataGenerator chunkDataGenerator)
+            {
+                final RegionGenerator regionGenerator = chunkDataGenerator.regionGenerator();
+                sendCacheStats(source, "region", regionGenerator.regionCache());
+                sendCacheStats(source, "partition", regionGenerator.partitionCache());
+            }
+        }
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static void sendCacheStats(CommandSourceStack source, String name, FastConcurrentCache<?> cache)
+    {
+        final long hits = cache.hits(), misses = cache.misses(), total = hits + misses;
+        final String hitRate = total > 0 ? String.format("%.1f", 100.0 * hits / total) : "-";
+        source.sendSuccess(() -> Component.translatable(CACHE, name, hits, misses, hitRate), false);
+    }
+
+    private static int dump(CommandSourceStack source)
+    {
+        final Path path = source.getServer().getServerDirectory().resolve("tfc_worldgen_stats.csv");
+        try
+        {
+            WorldGenProfiler.dump(path);
+            source.sendSuccess(() -> Component.translatable(DUMPED, path.toAbsolutePath().toString()), true);
+            return Command.SINGLE_SUCCESS;
+        }
+        catch (IOException e)
+        {
+            source.sendFailure(Component.translatable(DUMP_FAILED, e.getMessage()));
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.commands;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+import net.dries007.tfc.common.blockentities.BlockEntitySyncStats;
+import net.dries007.tfc.util.tracker.HydrationCache;
+import net.dries007.tfc.util.tracker.NestBoxIndex;
+import net.dries007.tfc.util.tracker.WorldTracker;
+
+public final class WorldTrackerCommand
+{
+    private static final String LANDSLIDES = "tfc.commands.tracker.landslides";
+    private static final String ISOLATED = "tfc.commands.tracker.isolated";
+    private static final String COLLAPSES = "tfc.commands.tracker.collapses";
+    private static final String LAST_TICK = "tfc.commands.tracker.last_tick";
+    private static final String NEST_BOXES = "tfc.commands.tracker.nest_boxes";
+    private static final String HYDRATION = "tfc.commands.tracker.hydration";
+    private static final String BLOCK_ENTITY_SYNC = "tfc.commands.tracker.block_entity_sync";
+    private static final String BLOCK_ENTITY_SYNC_SKIPPED = "tfc.commands.tracker.block_entity_sync_skipped";
+
+    public static LiteralArgumentBuilder<CommandSourceStack> create()
+    {
+        return Commands.literal("tracker")
+            .requires(source -> source.hasPermission(2))
+            .executes(cmd -> stats(cmd.getSource()));
+    }
+
+    private static int stats(CommandSourceStack source)
+    {
+        final WorldTracker tracker = WorldTracker.get(source.getLevel());
+        final WorldTracker.QueueStats stats = tracker.getQueueStats();
+        final NestBoxIndex.Stats nests = tracker.getNestBoxIndex().getStats();
+        final HydrationCache.Stats hydration = tracker.getHydrationCache().getStats();
+        final BlockEntitySyncStats.Stats sync = source.getPlayer() != null ? BlockEntitySyncStats.get(source.getPlayer()) : BlockEntitySyncStats.total();
+        source.sendSuccess(() -> Component.translatable(LANDSLIDES, stats.landslides(), stats.landslideChunks(), stats.landslideDuplicates()), false);
+        source.sendSuccess(() -> Component.translatable(ISOLATED, stats.isolated(), stats.isolatedChunks(), stats.isolatedDuplicates()), false);
+        source.sendSuccess(() -> Component.translatable(COLLAPSES, stats.collapses(), stats.collapsePositions()), false);
+        source.sendSuccess(() -> Component.translatable(LAST_TICK, stats.processedLastTick(), String.format("%.2f", stats.nanosLastTick() / 1_000_000d), stats.ticksOverBudget()), false);
+        source.sendSuccess(() -> Component.translatable(NEST_BOXES, nests.nests(), nests.chunks(), nests.claims(), nests.searches(), nests.paths(), nests.failedPaths(), String.format("%.2f", nests.sensorNanos() / 1_000_000d)), false);
+        source.sendSuccess(() -> Component.translatable(HYDRATION, hydration.entries(), hydration.chunks(), hydration.hits(), hydration.misses()), false);
+        source.sendSuccess(() -> Component.translatable(BLOCK_ENTITY_SYNC, sync.deltaPackets(), sync.fullPackets(), String.format("%.1f", sync.sentBytes() / 1024d), String.format("%.1f", sync.fullBytes() / 1024d)), false);
+        source.sendSuccess(() -> Component.translatable(BLOCK_ENTITY_SYNC_SKIPPED, sync.skippedSyncs()), false);
+        return Command.SINGLE_SUCCESS;
+    }
+}
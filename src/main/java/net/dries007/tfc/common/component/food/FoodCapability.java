@@ -25,12 +25,14 @@ import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.ItemDefinitionCache;
 import net.dries007.tfc.util.data.DataManager;
 
 public final class FoodCapability
 {
     public static final DataManager<FoodDefinition> MANAGER = new DataManager<>(Helpers.identifier("food"), FoodDefinition.CODEC, FoodDefinition.STREAM_CODEC);
     public static final IndirectHashCollection<Item, FoodDefinition> CACHE = IndirectHashCollection.create(r -> RecipeHelpers.itemKeys(r.ingredient()), MANAGER::getValues);
+    public static final ItemDefinitionCache<FoodDefinition> DEFINITIONS = ItemDefinitionCache.create("food", CACHE, FoodDefinition::ingredient);
 
     /**
      * @return An immutable view of the food component on an item stack.
@@ -49,7 +51,7 @@ public final class FoodCapability
     @Nullable
     public static FoodDefinition getDefinition(ItemStack stack)
     {
-        return RecipeHelpers.getRecipe(CACHE, stack, stack.getItem());
+        return DEFINITIONS.get(stack);
     }
 
     public static void setFoodForDynamicItemOnCreate(ItemStack stack, FoodData data)
@@ -23,6 +23,7 @@ import net.dries007.tfc.common.recipes.RecipeHelpers;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.ItemDefinitionCache;
 import net.dries007.tfc.util.data.DataManager;
 import net.dries007.tfc.util.data.Fuel;
 
@@ -30,6 +31,7 @@ public final class HeatCapability
 {
     public static final DataManager<HeatDefinition> MANAGER = new DataManager<>(Helpers.identifier("item_heat"), HeatDefinition.CODEC, HeatDefinition.STREAM_CODEC);
     public static final IndirectHashCollection<Item, HeatDefinition> CACHE = IndirectHashCollection.create(r -> RecipeHelpers.itemKeys(r.ingredient()), MANAGER::getValues);
+    public static final ItemDefinitionCache<HeatDefinition> DEFINITIONS = ItemDefinitionCache.create("heat", CACHE, HeatDefinition::ingredient);
 
     public static final float POTTERY_HEAT_CAPACITY = 1.2f;
 
@@ -117,7 +119,7 @@ public final class HeatCapability
     @Nullable
     public static HeatDefinition getDefinition(ItemStack stack)
     {
-        return RecipeHelpers.getRecipe(CACHE, stack, stack.getItem());
+        return DEFINITIONS.get(stack);
     }
 
     public static float adjustTempTowards(float temp, float target)
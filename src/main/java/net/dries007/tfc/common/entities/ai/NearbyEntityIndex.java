@@ -0,0 +1,161 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.entities.ai;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.targeting.TargetingConditions;
+import net.minecraft.world.phys.AABB;
+
+import net.dries007.tfc.util.tracker.WorldTracker;
+
+/**
+ * A per-level spatial hash of all living entities, by section, and additionally by entity type. This is rebuilt at most once per tick, the
+ * first time it is queried in that tick, which replaces many {@link ServerLevel#getEntitiesOfClass} queries with wide bounding boxes, from
+ * large numbers of animals, with a single pass over all entities.
+ * <p>
+ * Entities are bucketed by their position when the index was built, but are tested against their current bounding box when queried, so
+ * results match an equivalent level query, except for entities added to the level since the index was built, or which have moved further
+ * than {@link #MOVEMENT_MARGIN} since.
+ */
+public final class NearbyEntityIndex
+{
+    /**
+     * How far an entity may move, after the index was built, within the same tick.
+     */
+    private static final double MOVEMENT_MARGIN = 4;
+
+    /**
+     * @return The index for the given level, built for the current tick.
+     */
+    public static NearbyEntityIndex get(ServerLevel level)
+    {
+        final NearbyEntityIndex index = WorldTracker.get(level).getNearbyEntityIndex();
+        index.ensureBuilt(level);
+        return index;
+    }
+
+    /**
+     * Used to stagger expensive sensing across entities, so that a large group of entities, i.e. a herd which all spawned on the same tick,
+     * do not all sense on the same tick.
+     *
+     * @return {@code true} if {@code entity} should sense on this tick, which is once every {@code interval} ticks.
+     */
+    public static boolean isScheduled(Entity entity, int interval)
+    {
+        return (entity.tickCount + entity.getId()) % interval == 0;
+    }
+
+    private final Long2ObjectOpenHashMap<List<LivingEntity>> all = new Long2ObjectOpenHashMap<>();
+    private final Map<EntityType<?>, Long2ObjectOpenHashMap<List<LivingEntity>>> byType = new IdentityHashMap<>();
+    private long builtTick = Long.MIN_VALUE;
+
+    /**
+     * How far an entity's bounding box may extend outside the section it was bucketed in, either due to its size, or due to moving after the
+     * index was built. This is derived from the largest bounding box of any entity in the index, when it was built.
+     */
+    private double margin = MOVEMENT_MARGIN;
+
+    /**
+     * @return All living entities of exactly {@code type}, whose bounding box intersects {@code area}, and match {@code filter}.
+     */
+    public List<LivingEntity> getEntitiesOfType(EntityType<?> type, AABB area, Predicate<? super LivingEntity> filter)
+    {
+        final List<LivingEntity> found = new ArrayList<>();
+        final Long2ObjectOpenHashMap<List<LivingEntity>> sections = byType.get(type);
+        if (sections != null)
+        {
+            collect(sections, LivingEntity.class, area, filter, found);
+        }
+        return found;
+    }
+
+    /**
+     * @return All living entities which are instances of {@code clazz}, whose bounding box intersects {@code area}, and match {@code filter}.
+     */
+    public <T extends LivingEntity> List<T> getEntitiesOfClass(Class<T> clazz, AABB area, Predicate<? super T> filter)
+    {
+        final List<T> found = new ArrayList<>();
+        collect(all, clazz, area, filter, found);
+        return found;
+    }
+
+    /**
+     * Equivalent to {@link ServerLevel#getNearbyEntities(Class, TargetingConditions, LivingEntity, AABB)}.
+     */
+    public <T extends LivingEntity> List<T> getNearbyEntities(Class<T> clazz, TargetingConditions conditions, LivingEntity entity, AABB area)
+    {
+        return getEntitiesOfClass(clazz, area, target -> conditions.test(entity, target));
+    }
+
+    private <T extends LivingEntity> void collect(Long2ObjectOpenHashMap<List<LivingEntity>> sections, Class<T> clazz, AABB area, Predicate<? super T> filter, List<T> found)
+    {
+        final int minX = SectionPos.blockToSectionCoord(Mth.floor(area.minX - margin)), maxX = SectionPos.blockToSectionCoord(Mth.floor(area.maxX + margin));
+        final int minY = SectionPos.blockToSectionCoord(Mth.floor(area.minY - margin)), maxY = SectionPos.blockToSectionCoord(Mth.floor(area.maxY + margin));
+        final int minZ = SectionPos.blockToSectionCoord(Mth.floor(area.minZ - margin)), maxZ = SectionPos.blockToSectionCoord(Mth.floor(area.maxZ + margin));
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int z = minZ; z <= maxZ; z++)
+            {
+                for (int y = minY; y <= maxY; y++)
+                {
+                    final List<LivingEntity> entities = sections.get(SectionPos.asLong(x, y, z));
+                    if (entities != null)
+                    {
+                        for (LivingEntity entity : entities)
+                        {
+                            if (clazz.isInstance(entity) && entity.isAlive() && entity.getBoundingBox().intersects(area))
+                            {
+                                final T typed = clazz.cast(entity);
+                                if (filter.test(typed))
+                                {
+                                    found.add(typed);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void ensureBuilt(ServerLevel level)
+    {
+        final long tick = level.getGameTime();
+        if (builtTick == tick)
+        {
+            return;
+        }
+        builtTick = tick;
+        all.clear();
+        byType.clear();
+
+        // Entities are bucketed by their feet, so their bounding box extends at most half their width horizontally, and their height vertically
+        double maxExtent = 0;
+        for (Entity entity : level.getAllEntities())
+        {
+            if (entity instanceof LivingEntity living && living.isAlive())
+            {
+                maxExtent = Math.max(maxExtent, Math.max(living.getBbWidth() * 0.5, living.getBbHeight()));
+                final long key = SectionPos.asLong(living.blockPosition());
+                all.computeIfAbsent(key, k -> new ArrayList<>()).add(living);
+                byType.computeIfAbsent(living.getType(), k -> new Long2ObjectOpenHashMap<>()).computeIfAbsent(key, k -> new ArrayList<>()).add(living);
+            }
+        }
+        margin = Math.ceil(maxExtent) + MOVEMENT_MARGIN;
+    }
+}
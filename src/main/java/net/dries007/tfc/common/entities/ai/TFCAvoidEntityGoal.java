@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.common.entities.ai;
 
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.tags.TagKey;
 import net.minecraft.world.entity.EntitySelector;
 import net.minecraft.world.entity.EntityType;
@@ -22,6 +23,8 @@ import net.dries007.tfc.util.Helpers;
 
 public class TFCAvoidEntityGoal<T extends LivingEntity> extends AvoidEntityGoal<T>
 {
+    private static final int CHECK_INTERVAL = 5;
+
     private final TargetingConditions avoidEntityTargeting;
 
     public TFCAvoidEntityGoal(PathfinderMob mob, Class<T> avoidClass, float dist, double farSpeed, double nearSpeed, TagKey<EntityType<?>> tag)
@@ -46,7 +49,12 @@ public class TFCAvoidEntityGoal<T extends LivingEntity> extends AvoidEntityGoal<
     public boolean canUse()
     {
         // we copy over this method completely to avoid doubling the getNearestEntity call
-        toAvoid = mob.level().getNearestEntity(mob.level().getEntitiesOfClass(avoidClass, mob.getBoundingBox().inflate(maxDist, 3.0D, maxDist), (p_148078_) -> true), avoidEntityTargeting, mob, mob.getX(), mob.getY(), mob.getZ());
+        // stagger checks between mobs, and query the per-tick index rather than the level, as herds of animals all do this check
+        if (!(mob.level() instanceof ServerLevel level) || !NearbyEntityIndex.isScheduled(mob, CHECK_INTERVAL))
+        {
+            return false;
+        }
+        toAvoid = level.getNearestEntity(NearbyEntityIndex.get(level).getEntitiesOfClass(avoidClass, mob.getBoundingBox().inflate(maxDist, 3.0D, maxDist), e -> true), avoidEntityTargeting, mob, mob.getX(), mob.getY(), mob.getZ());
         if (toAvoid == null)
         {
             return false;
@@ -6,72 +6,73 @@
 
 package net.dries007.tfc.common.entities.ai.livestock;
 
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
-import java.util.stream.Stream;
-
 import com.google.common.collect.ImmutableSet;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.ai.memory.MemoryModuleType;
 import net.minecraft.world.entity.ai.sensing.Sensor;
-import net.minecraft.world.entity.ai.village.poi.PoiManager;
 import net.minecraft.world.level.pathfinder.Path;
-
-import it.unimi.dsi.fastutil.longs.Long2LongMap;
-import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.common.entities.ai.TFCBrain;
 import net.dries007.tfc.common.entities.livestock.OviparousAnimal;
+import net.dries007.tfc.util.tracker.NestBoxIndex;
+import net.dries007.tfc.util.tracker.WorldTracker;
 
 /**
- * Reimplements {@link net.minecraft.world.entity.ai.sensing.NearestBedSensor}
+ * Reimplements {@link net.minecraft.world.entity.ai.sensing.NearestBedSensor}, using a level-wide {@link NestBoxIndex} rather than a
+ * {@link net.minecraft.world.entity.ai.village.poi.PoiManager} scan per animal. Each tick, this picks the nearest nest box that is not
+ * claimed by another animal, and only computes a path to that one.
  */
 public class NearestNestBoxSensor extends Sensor<OviparousAnimal>
 {
-    private static final int CACHE_TIMEOUT = 40;
-    private static final int BATCH_SIZE = 5;
+    private static final int UNREACHABLE_TIMEOUT = 200;
 
-    private int triedCount;
-    private long lastUpdate;
-    private final Long2LongMap batchCache = new Long2LongOpenHashMap(); // position to time
+    private final Long2LongMap unreachable = new Long2LongOpenHashMap(); // position to time, for nest boxes we failed to path to
 
     @Override
     protected void doTick(ServerLevel level, OviparousAnimal animal)
     {
-        // we only need to do this if we are gonna make an egg and not sitting already
-        if (animal.isReadyForAnimalProduct() && !animal.isPassenger())
+        final NestBoxIndex index = WorldTracker.get(level).getNestBoxIndex();
+        final Optional<BlockPos> current = animal.getBrain().getMemory(TFCBrain.NEST_BOX_MEMORY.get());
+        if (!animal.isReadyForAnimalProduct())
         {
-            triedCount = 0;
-            lastUpdate = level.getGameTime() + level.getRandom().nextInt(20);
-            PoiManager manager = level.getPoiManager();
-            Predicate<BlockPos> predicate = pos -> {
-                final long packed = pos.asLong();
-                if (batchCache.containsKey(packed))
-                {
-                    return false;
-                }
-                else if (++triedCount >= BATCH_SIZE)
+            // Done with any nest box we had, so let other animals use it
+            current.ifPresent(pos -> index.release(pos, animal));
+        }
+        else if (animal.isPassenger())
+        {
+            // Sitting already, so keep our claim on this nest box
+            current.ifPresent(pos -> index.claim(pos, animal, level.getGameTime()));
+        }
+        else
+        {
+            final long startNanos = System.nanoTime();
+            final long gameTime = level.getGameTime();
+
+            unreachable.long2LongEntrySet().removeIf(entry -> entry.getLongValue() < gameTime);
+
+            final @Nullable BlockPos target = index.findNearestFree(level, animal, unreachable::containsKey);
+            boolean reached = false;
+            if (target != null)
+            {
+                final Path path = animal.getNavigation().createPath(target, TFCBrain.NEST_BOX_POI.get().validRange());
+                if (path != null && path.canReach())
                 {
-                    return false;
+                    reached = true;
+                    index.claim(target, animal, gameTime);
+                    animal.getBrain().setMemory(TFCBrain.NEST_BOX_MEMORY.get(), target);
                 }
                 else
                 {
-                    batchCache.putIfAbsent(packed, lastUpdate + CACHE_TIMEOUT);
-                    return true;
+                    unreachable.put(target.asLong(), gameTime + UNREACHABLE_TIMEOUT);
                 }
-            };
-            Stream<BlockPos> found = manager.findAll(p -> p.value() == TFCBrain.NEST_BOX_POI.get(), predicate, animal.blockPosition(), 48, PoiManager.Occupancy.ANY);
-            Path path = animal.getNavigation().createPath(found, TFCBrain.NEST_BOX_POI.get().validRange());
-            if (path != null && path.canReach())
-            {
-                BlockPos target = path.getTarget();
-                manager.getType(target).ifPresent(poi -> animal.getBrain().setMemory(TFCBrain.NEST_BOX_MEMORY.get(), target));
-            }
-            else if (triedCount < BATCH_SIZE)
-            {
-                batchCache.long2LongEntrySet().removeIf(set -> set.getLongValue() < lastUpdate);
             }
+            index.recordSensorTick(System.nanoTime() - startNanos, target != null, reached);
         }
     }
 
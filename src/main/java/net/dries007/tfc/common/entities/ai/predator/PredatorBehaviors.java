@@ -12,6 +12,7 @@ import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.GlobalPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.Brain;
@@ -28,11 +29,14 @@ import net.minecraft.world.entity.ai.util.LandRandomPos;
 import net.minecraft.world.entity.schedule.Activity;
 import net.minecraft.world.phys.Vec3;
 
+import net.dries007.tfc.common.entities.ai.NearbyEntityIndex;
 import net.dries007.tfc.common.entities.ai.TFCBrain;
 import net.dries007.tfc.common.entities.predator.Predator;
 
 public final class PredatorBehaviors
 {
+    private static final int DISTURBANCE_INTERVAL = 4; // Ticks between checking if a sleeping predator is touched by another entity
+
     /**
      * If the given predicate triggers, stop attacking, and become passive for {@code ticks}
      */
@@ -131,7 +135,7 @@ public final class PredatorBehaviors
     {
         return BehaviorBuilder.triggerIf(entity -> (PredatorAi.getDistanceFromHomeSqr(entity) > 25
             || entity.isInWaterOrBubble()
-            || !entity.level().getNearbyEntities(LivingEntity.class, TargetingConditions.DEFAULT, entity, entity.getBoundingBox()).isEmpty())
+            || (entity.level() instanceof ServerLevel level && NearbyEntityIndex.isScheduled(entity, DISTURBANCE_INTERVAL) && !NearbyEntityIndex.get(level).getNearbyEntities(LivingEntity.class, TargetingConditions.DEFAULT, entity, entity.getBoundingBox()).isEmpty()))
             && entity.isSleeping(),
             BehaviorBuilder.create(instance -> instance.group(
                 instance.absent(MemoryModuleType.ATTACK_TARGET)
@@ -31,6 +31,7 @@ import net.minecraft.world.entity.ai.targeting.TargetingConditions;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.phys.Vec3;
 
+import net.dries007.tfc.common.entities.ai.NearbyEntityIndex;
 import net.dries007.tfc.common.entities.prey.RammingPrey;
 
 public class RamTargetTFC extends Behavior<RammingPrey>
@@ -78,7 +79,7 @@ public class RamTargetTFC extends Behavior<RammingPrey>
     {
         Brain<?> brain = rammingPrey.getBrain();
         //Generate list of nearby entities meeting the Targeting conditions
-        List<LivingEntity> list = level.getNearbyEntities(LivingEntity.class, this.ramTargeting, rammingPrey, rammingPrey.getBoundingBox().inflate(rammingPrey.getRammingReach()));
+        List<LivingEntity> list = NearbyEntityIndex.get(level).getNearbyEntities(LivingEntity.class, this.ramTargeting, rammingPrey, rammingPrey.getBoundingBox().inflate(rammingPrey.getRammingReach()));
         //Damages any targetable entities that come within the animal's bounding box
         if (!list.isEmpty())
         {
@@ -38,9 +38,11 @@ import org.jetbrains.annotations.Nullable;
 import net.dries007.tfc.client.TFCSounds;
 import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.entities.Temptable;
+import net.dries007.tfc.common.entities.ai.NearbyEntityIndex;
 import net.dries007.tfc.common.entities.ai.TFCGroundPathNavigation;
 import net.dries007.tfc.common.entities.ai.livestock.LivestockAi;
 import net.dries007.tfc.common.entities.ai.prey.PreyAi;
+import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.config.animals.AnimalConfig;
 import net.dries007.tfc.util.Helpers;
 
@@ -48,12 +50,17 @@ public abstract class TFCAnimal extends Animal implements TFCAnimalProperties, T
 {
     private static final CommonAnimalData ANIMAL_DATA = CommonAnimalData.create(TFCAnimal.class);
 
+    private static final int DORMANCY_CHECK_INTERVAL = 20;
+    private static final int DORMANT_ANIMAL_DATA_INTERVAL = 200;
+
     private final Supplier<? extends SoundEvent> ambient;
     private final Supplier<? extends SoundEvent> hurt;
     private final Supplier<? extends SoundEvent> death;
     private final Supplier<? extends SoundEvent> step;
     private final AnimalConfig config;
 
+    private boolean dormant; // If this animal is dormant, and only updating its brain occasionally
+
     public TFCAnimal(EntityType<? extends Animal> type, Level level, TFCSounds.EntityId sounds, AnimalConfig config)
     {
         super(type, level);
@@ -102,7 +109,71 @@ public abstract class TFCAnimal extends Animal implements TFCAnimalProperties, T
     protected void customServerAiStep()
     {
         super.customServerAiStep();
-        tickBrain();
+        if (hurtTime > 0 || NearbyEntityIndex.isScheduled(this, DORMANCY_CHECK_INTERVAL))
+        {
+            updateDormancy();
+        }
+        if (!dormant || NearbyEntityIndex.isScheduled(this, TFCConfig.SERVER.animalDormantBrainInterval.get()))
+        {
+            tickBrain();
+        }
+    }
+
+    /**
+     * @return {@code true} if this animal is dormant, and is only updating its brain every {@code animalDormantBrainInterval} ticks. This is
+     * only tracked on server.
+     */
+    public boolean isDormant()
+    {
+        return dormant;
+    }
+
+    /**
+     * Wakes this animal from dormancy, if it was dormant, and catches up any animal data that was not being updated while dormant.
+     */
+    public void wakeFromDormancy()
+    {
+        if (dormant)
+        {
+            dormant = false;
+            tickAnimalData();
+        }
+    }
+
+    /**
+     * @return {@code true} if this animal is allowed to become dormant at all, regardless of where it is or what it is doing.
+     */
+    protected boolean canBeDormant()
+    {
+        return true;
+    }
+
+    private void updateDormancy()
+    {
+        if (shouldBeDormant())
+        {
+            dormant = true;
+        }
+        else
+        {
+            wakeFromDormancy();
+        }
+    }
+
+    private boolean shouldBeDormant()
+    {
+        // Only animals out of range of any player are dormant. Ticking the brain less often stretches memory expiry and behavior timers, which
+        // would be visible to a nearby player, i.e. a fed animal standing still would take several times longer to start wandering again.
+        final int distance = TFCConfig.SERVER.animalDormancyDistance.get();
+        return distance > 0
+            && canBeDormant()
+            && hurtTime <= 0
+            && !isInLove()
+            && !isLeashed()
+            && !isVehicle()
+            && !isPassenger()
+            && !isInWaterOrBubble()
+            && !level().hasNearbyAlivePlayer(getX(), getY(), getZ(), distance);
     }
 
     @SuppressWarnings("unchecked")
@@ -195,7 +266,8 @@ public abstract class TFCAnimal extends Animal implements TFCAnimalProperties, T
     public void tick()
     {
         super.tick();
-        if (level().getGameTime() % 20 == 0)
+        // Animal data is derived from the calendar, so dormant animals can update it less often, and catch up when woken
+        if (level().getGameTime() % (dormant ? DORMANT_ANIMAL_DATA_INTERVAL : 20) == 0)
         {
             tickAnimalData();
         }
@@ -204,6 +276,10 @@ public abstract class TFCAnimal extends Animal implements TFCAnimalProperties, T
     @Override
     public InteractionResult mobInteract(Player player, InteractionHand hand)
     {
+        if (!level().isClientSide)
+        {
+            wakeFromDormancy();
+        }
         InteractionResult result = TFCAnimalProperties.super.mobInteract(player, hand);
         return result == InteractionResult.PASS ? super.mobInteract(player, hand) : result;
     }
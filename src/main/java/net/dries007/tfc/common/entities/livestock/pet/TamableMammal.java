@@ -111,6 +111,12 @@ public abstract class TamableMammal extends Mammal implements OwnableEntity
         return (Brain<TamableMammal>) super.getBrain();
     }
 
+    @Override
+    protected boolean canBeDormant()
+    {
+        return getOwnerUUID() == null; // Pets need to be able to follow their owner
+    }
+
     @SuppressWarnings("unchecked")
     public void tickBrain()
     {
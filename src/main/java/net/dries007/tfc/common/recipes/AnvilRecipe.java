@@ -6,6 +6,8 @@
 
 package net.dries007.tfc.common.recipes;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import com.google.common.collect.BiMap;
 import com.mojang.serialization.Codec;
@@ -18,6 +20,7 @@ import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeHolder;
@@ -37,19 +40,43 @@ import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 public class AnvilRecipe implements ISimpleRecipe<AnvilRecipe.Inventory>
 {
+    /**
+     * Anvil recipes, indexed by input item. Within each item, recipes are sorted by ascending tier, so lookups can stop at the first recipe
+     * above the anvil's tier.
+     */
+    public static final IndirectHashCollection<Item, RecipeHolder<AnvilRecipe>> CACHE_BY_ITEM = IndirectHashCollection.createForRecipeHolder(r -> RecipeHelpers.itemKeys(r.input), TFCRecipeTypes.ANVIL, Comparator.comparingInt(AnvilRecipe::getMinTier));
+
     public static boolean hasAny(Level level, ItemStack stack, int tier)
     {
-        return RecipeHelpers.getRecipes(level, TFCRecipeTypes.ANVIL)
-            .stream()
-            .anyMatch(r -> r.value().input.test(stack) && tier >= r.value().minTier); // anyMatch() should be faster than calling toList().isEmpty()
+        for (RecipeHolder<AnvilRecipe> recipe : CACHE_BY_ITEM.getAll(stack.getItem()))
+        {
+            if (tier < recipe.value().minTier)
+            {
+                break;
+            }
+            if (recipe.value().input.test(stack))
+            {
+                return true;
+            }
+        }
+        return false;
     }
 
     public static List<RecipeHolder<AnvilRecipe>> getAll(Level level, ItemStack stack, int tier)
     {
-        return RecipeHelpers.getRecipes(level, TFCRecipeTypes.ANVIL)
-            .stream()
-            .filter(r -> r.value().input.test(stack) && tier >= r.value().minTier)
-            .toList();
+        final List<RecipeHolder<AnvilRecipe>> recipes = new ArrayList<>();
+        for (RecipeHolder<AnvilRecipe> recipe : CACHE_BY_ITEM.getAll(stack.getItem()))
+        {
+            if (tier < recipe.value().minTier)
+            {
+                break;
+            }
+            if (recipe.value().input.test(stack))
+            {
+                recipes.add(recipe);
+            }
+        }
+        return recipes;
     }
 
     private static final BiMap<ResourceLocation, AnvilRecipe> CACHE = IndirectHashCollection.createForRecipeId(TFCRecipeTypes.ANVIL);
@@ -0,0 +1,156 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.recipes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.material.Fluid;
+import net.neoforged.neoforge.fluids.FluidStack;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.common.blockentities.BarrelBlockEntity;
+import net.dries007.tfc.common.recipes.input.BarrelInventory;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
+
+/**
+ * An index of barrel recipes of a single type, keyed first by input fluid, then by input item. Recipes without an input item are kept in a
+ * wildcard bucket per fluid, which is checked alongside the item bucket. When more than one recipe matches, this returns the first one in
+ * recipe manager order, the same as a linear scan over all recipes would.
+ * <p>
+ * This relies on {@link BarrelRecipe#matches(BarrelInventory)} requiring the input fluid, and input item if present, to match, which is
+ * true of all barrel recipe types. Like {@link IndirectHashCollection}, this is reloaded along with all other caches.
+ */
+public final class BarrelRecipeCache<B extends BarrelRecipe> implements IndirectHashCollection.Cache
+{
+    private static int generation; // Incremented whenever any barrel recipes are reloaded, which invalidates any existing signatures
+
+    public static <B extends BarrelRecipe> BarrelRecipeCache<B> create(Supplier<RecipeType<B>> recipeType)
+    {
+        return IndirectHashCollection.create(new BarrelRecipeCache<>(recipeType));
+    }
+
+    private final Supplier<RecipeType<B>> recipeType;
+    private final Map<Fluid, Map<Item, List<Entry<B>>>> byFluidAndItem = new HashMap<>();
+    private final Map<Fluid, List<Entry<B>>> byFluid = new HashMap<>();
+
+    private BarrelRecipeCache(Supplier<RecipeType<B>> recipeType)
+    {
+        this.recipeType = recipeType;
+    }
+
+    @Nullable
+    public RecipeHolder<B> get(BarrelInventory input)
+    {
+        final Fluid fluid = input.getFluidInTank(0).getFluid();
+        final Map<Item, List<Entry<B>>> byItem = byFluidAndItem.get(fluid);
+        final @Nullable Entry<B> withItem = byItem == null ? null : first(byItem.get(input.getStackInSlot(BarrelBlockEntity.SLOT_ITEM).getItem()), input);
+        final @Nullable Entry<B> withoutItem = first(byFluid.get(fluid), input);
+        if (withItem == null || withoutItem == null)
+        {
+            return withItem != null ? withItem.recipe : withoutItem != null ? withoutItem.recipe : null;
+        }
+        return withItem.index < withoutItem.index ? withItem.recipe : withoutItem.recipe;
+    }
+
+    @Override
+    public void clear()
+    {
+        byFluidAndItem.clear();
+        byFluid.clear();
+        generation++;
+    }
+
+    @Override
+    public void reload(RecipeManager manager)
+    {
+        clear();
+
+        int index = 0;
+        for (RecipeHolder<B> holder : RecipeHelpers.getRecipes(manager, recipeType))
+        {
+            final Entry<B> entry = new Entry<>(index++, holder);
+            final BarrelRecipe recipe = holder.value();
+            for (Fluid fluid : RecipeHelpers.fluidKeys(recipe.inputFluid.ingredient()))
+            {
+                if (recipe.inputItem.isPresent())
+                {
+                    final Map<Item, List<Entry<B>>> byItem = byFluidAndItem.computeIfAbsent(fluid, key -> new HashMap<>());
+                    for (Item item : RecipeHelpers.itemKeys(recipe.inputItem.get().ingredient()))
+                    {
+                        byItem.computeIfAbsent(item, key -> new ArrayList<>()).add(entry);
+                    }
+                }
+                else
+                {
+                    byFluid.computeIfAbsent(fluid, key -> new ArrayList<>()).add(entry);
+                }
+            }
+        }
+    }
+
+    @Nullable
+    private Entry<B> first(@Nullable List<Entry<B>> entries, BarrelInventory input)
+    {
+        if (entries != null)
+        {
+            for (Entry<B> entry : entries)
+            {
+                if (entry.recipe.value().matches(input))
+                {
+                    return entry;
+                }
+            }
+        }
+        return null;
+    }
+
+    record Entry<B extends BarrelRecipe>(int index, RecipeHolder<B> recipe) {}
+
+    /**
+     * A snapshot of the parts of a barrel inventory that barrel recipes match against. This is used to remember a failed recipe lookup, so an
+     * inventory change that does not touch any of these (i.e. removing from the output slot) does not need another lookup.
+     */
+    public static final class Signature
+    {
+        public static Signature of(BarrelInventory input)
+        {
+            return new Signature(input.getStackInSlot(BarrelBlockEntity.SLOT_ITEM).copy(), input.getStackInSlot(BarrelBlockEntity.SLOT_FLUID_CONTAINER_IN).copy(), input.getFluidInTank(0).copy());
+        }
+
+        private final int generation;
+        private final ItemStack item;
+        private final ItemStack container;
+        private final FluidStack fluid;
+
+        private Signature(ItemStack item, ItemStack container, FluidStack fluid)
+        {
+            this.generation = BarrelRecipeCache.generation;
+            this.item = item;
+            this.container = container;
+            this.fluid = fluid;
+        }
+
+        /**
+         * @return {@code true} if {@code input} has the same contents as this signature, and no recipes have been reloaded since it was taken.
+         */
+        public boolean matches(BarrelInventory input)
+        {
+            return generation == BarrelRecipeCache.generation
+                && ItemStack.matches(item, input.getStackInSlot(BarrelBlockEntity.SLOT_ITEM))
+                && ItemStack.matches(container, input.getStackInSlot(BarrelBlockEntity.SLOT_FLUID_CONTAINER_IN))
+                && FluidStack.matches(fluid, input.getFluidInTank(0));
+        }
+    }
+}
@@ -12,14 +12,15 @@ import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
-import net.minecraft.world.item.crafting.RecipeHolder;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
 import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.fluids.crafting.SizedFluidIngredient;
 import org.jetbrains.annotations.Nullable;
 
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 public record BlastFurnaceRecipe(
     SizedFluidIngredient inputFluid,
@@ -40,6 +41,8 @@ public record BlastFurnaceRecipe(
         BlastFurnaceRecipe::new
     );
 
+    public static final IndirectHashCollection<Fluid, BlastFurnaceRecipe> CACHE = IndirectHashCollection.createForRecipe(r -> RecipeHelpers.fluidKeys(r.inputFluid.ingredient()), TFCRecipeTypes.BLAST_FURNACE);
+
     /**
      * @return A recipe matching a primary input item stack.
      */
@@ -49,14 +52,7 @@ public record BlastFurnaceRecipe(
         final HeatingRecipe heatRecipe = HeatingRecipe.getRecipe(stack);
         if (heatRecipe != null)
         {
-            final FluidStack moltenFluid = heatRecipe.assembleFluid(stack);
-            for (RecipeHolder<BlastFurnaceRecipe> recipe : RecipeHelpers.getRecipes(level, TFCRecipeTypes.BLAST_FURNACE))
-            {
-                if (recipe.value().inputFluid.ingredient().test(moltenFluid))
-                {
-                    return recipe.value();
-                }
-            }
+            return get(level, heatRecipe.assembleFluid(stack));
         }
         return null;
     }
@@ -67,7 +63,7 @@ public record BlastFurnaceRecipe(
     @Nullable
     public static BlastFurnaceRecipe get(Level level, FluidStack inputFluid)
     {
-        return RecipeHelpers.unbox(RecipeHelpers.getHolder(level, TFCRecipeTypes.BLAST_FURNACE, inputFluid));
+        return RecipeHelpers.getRecipe(CACHE, inputFluid, inputFluid.getFluid());
     }
 
     @Override
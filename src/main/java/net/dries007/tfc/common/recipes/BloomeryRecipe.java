@@ -16,15 +16,35 @@ import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.material.Fluid;
 import net.neoforged.neoforge.common.crafting.SizedIngredient;
 import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.fluids.crafting.SizedFluidIngredient;
 import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.common.recipes.outputs.ItemStackProvider;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 public class BloomeryRecipe implements INoopInputRecipe
 {
+    public static final IndirectHashCollection<Fluid, BloomeryRecipe> CACHE = IndirectHashCollection.createForRecipe(r -> RecipeHelpers.fluidKeys(r.inputFluid.ingredient()), TFCRecipeTypes.BLOOMERY);
+
+    /**
+     * @return A recipe matching a primary input fluid, ignoring amounts.
+     */
+    @Nullable
+    public static BloomeryRecipe get(FluidStack fluid)
+    {
+        for (BloomeryRecipe recipe : CACHE.getAll(fluid.getFluid()))
+        {
+            if (recipe.matchesInput(fluid))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
     public static final MapCodec<BloomeryRecipe> CODEC = RecordCodecBuilder.mapCodec(i -> i.group(
         SizedFluidIngredient.FLAT_CODEC.fieldOf("fluid").forGetter(c -> c.inputFluid),
         SizedIngredient.FLAT_CODEC.fieldOf("catalyst").forGetter(c -> c.catalyst),
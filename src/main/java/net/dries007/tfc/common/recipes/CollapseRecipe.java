@@ -9,6 +9,7 @@ package net.dries007.tfc.common.recipes;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.sounds.SoundSource;
@@ -164,7 +165,8 @@ public class CollapseRecipe extends BlockRecipe
         final RandomSource random = level.getRandom();
         final int radius = TFCConfig.SERVER.collapseMinRadius.get() + random.nextInt(TFCConfig.SERVER.collapseRadiusVariance.get());
         final int radiusSquared = radius * radius;
-        final List<BlockPos> secondaryPositions = new ArrayList<>();
+        final float propagateChance = TFCConfig.SERVER.collapsePropagateChance.get().floatValue();
+        final LongOpenHashSet initialPositions = new LongOpenHashSet();
         final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
 
         TerraFirmaCraft.LOGGER.info("Collapse started at pos {}, with the block column {} -> (start: {}) -> {}",
@@ -174,6 +176,7 @@ public class CollapseRecipe extends BlockRecipe
             level.getBlockState(centerPos.below()));
 
         // Initially only scan on the bottom layer, and advance upwards
+        // This only chooses the positions to collapse, which are then collapsed by the world tracker, within its per-tick budget
         for (BlockPos pos : BlockPos.betweenClosed(centerPos.offset(-radius, -4, -radius), centerPos.offset(radius, -4, radius)))
         {
             boolean foundEmpty = false; // If we've found a space to collapse into
@@ -181,31 +184,23 @@ public class CollapseRecipe extends BlockRecipe
             {
                 final BlockPos posAt = cursor.setWithOffset(pos, 0, y, 0);
                 final BlockState stateAt = level.getBlockState(posAt);
-                if (foundEmpty && canCollapse(stateAt))
+                if (foundEmpty && posAt.distSqr(centerPos) < radiusSquared && canCollapse(stateAt) && random.nextFloat() < propagateChance)
                 {
-                    // Check for a possible collapse
-                    if (posAt.distSqr(centerPos) < radiusSquared && random.nextFloat() < TFCConfig.SERVER.collapsePropagateChance.get())
-                    {
-                        // Trigger destruction, since our previous check only was 'non-full-blocks'
-                        if (collapseBlock(level, posAt, stateAt, true))
-                        {
-                            // This column has started to collapse. Mark the next block above as unstable for the "follow up"
-                            secondaryPositions.add(posAt.above());
-                            break;
-                        }
-                    }
+                    // This will trigger destruction of the block below, since our previous check only was 'non-full-blocks'
+                    initialPositions.add(posAt.asLong());
+                    break;
                 }
                 // Any non-solid block below might be a candidate for a collapse, since we just break stuff like slabs and stairs that would otherwise count as a solid surface above.
                 foundEmpty = !stateAt.isCollisionShapeFullBlock(level, posAt);
             }
         }
 
-        if (!secondaryPositions.isEmpty())
+        if (!initialPositions.isEmpty())
         {
-            WorldTracker.get(level).addCollapseData(new Collapse(centerPos, secondaryPositions, radiusSquared));
+            WorldTracker.get(level).addCollapseData(new Collapse(centerPos, initialPositions, radiusSquared, true));
         }
 
-        return !secondaryPositions.isEmpty();
+        return !initialPositions.isEmpty();
     }
 
     /**
@@ -219,6 +214,15 @@ public class CollapseRecipe extends BlockRecipe
     }
 
     public static boolean collapseBlock(Level level, BlockPos pos, BlockState state, boolean destroyBlockBelow)
+    {
+        return collapseBlock(level, pos, state, destroyBlockBelow, false);
+    }
+
+    /**
+     * @param direct If {@code true}, the block is moved directly to where it would land, rather than spawning a falling block entity. This
+     *               is much cheaper for large collapses, but will not damage any entities below.
+     */
+    public static boolean collapseBlock(Level level, BlockPos pos, BlockState state, boolean destroyBlockBelow, boolean direct)
     {
         final CollapseRecipe recipe = getRecipe(state);
         if (recipe != null)
@@ -232,6 +236,22 @@ public class CollapseRecipe extends BlockRecipe
                 level.destroyBlock(posBelow, true);
             }
             final BlockState collapseState = recipe.assembleBlock(state);
+            if (direct)
+            {
+                // Fall through, and destroy, any blocks below, and then land on the first block we cannot fall through
+                final BlockPos.MutableBlockPos cursor = posBelow.mutable();
+                while (cursor.getY() > level.getMinBuildHeight() && TFCFallingBlockEntity.canFallThrough(level, cursor, Direction.DOWN, collapseState))
+                {
+                    if (!level.isEmptyBlock(cursor))
+                    {
+                        level.destroyBlock(cursor, true);
+                    }
+                    cursor.move(Direction.DOWN);
+                }
+                level.removeBlock(pos, false);
+                level.setBlockAndUpdate(cursor.move(Direction.UP), collapseState);
+                return true;
+            }
             level.setBlockAndUpdate(pos, collapseState); // Required as the falling block entity will replace the block in it's first tick
             level.addFreshEntity(new TFCFallingBlockEntity(level, pos.getX() + 0.5, pos.getY(), pos.getZ() + 0.5, collapseState, 2.0f, 20));
             return true;
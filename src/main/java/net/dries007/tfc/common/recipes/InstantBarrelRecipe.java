@@ -18,6 +18,8 @@ import net.dries007.tfc.common.recipes.input.BarrelInventory;
 
 public class InstantBarrelRecipe extends BarrelRecipe
 {
+    public static final BarrelRecipeCache<InstantBarrelRecipe> CACHE = BarrelRecipeCache.create(TFCRecipeTypes.BARREL_INSTANT);
+
     public static final MapCodec<InstantBarrelRecipe> CODEC = BarrelRecipe.CODEC.xmap(InstantBarrelRecipe::new, Function.identity());
     public static final StreamCodec<RegistryFriendlyByteBuf, InstantBarrelRecipe> STREAM_CODEC = BarrelRecipe.STREAM_CODEC.map(InstantBarrelRecipe::new, Function.identity());
 
@@ -35,6 +35,8 @@ import net.dries007.tfc.util.Helpers;
 
 public class InstantFluidBarrelRecipe extends BarrelRecipe
 {
+    public static final BarrelRecipeCache<InstantFluidBarrelRecipe> CACHE = BarrelRecipeCache.create(TFCRecipeTypes.BARREL_INSTANT_FLUID);
+
     public static final MapCodec<InstantFluidBarrelRecipe> CODEC = RecordCodecBuilder.mapCodec(i -> i.group(
         SizedFluidIngredient.FLAT_CODEC.fieldOf("primary_fluid").forGetter(c -> c.inputFluid),
         SizedFluidIngredient.FLAT_CODEC.fieldOf("added_fluid").forGetter(c -> c.addedFluid),
@@ -20,17 +20,31 @@ import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
 import net.neoforged.neoforge.fluids.crafting.SizedFluidIngredient;
+import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.common.blockentities.PotBlockEntity;
 import net.dries007.tfc.common.recipes.outputs.PotOutput;
 import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 /**
  * Recipe type for all cooking pot recipes
  */
 public class PotRecipe implements ISimpleRecipe<PotBlockEntity.PotInventory>
 {
+    public static final IndirectHashCollection<Fluid, PotRecipe> CACHE = IndirectHashCollection.createForRecipe(r -> RecipeHelpers.fluidKeys(r.fluidIngredient.ingredient()), TFCRecipeTypes.POT);
+
+    /**
+     * @return The first recipe matching the pot's inventory, only checking recipes which accept the pot's fluid.
+     */
+    @Nullable
+    public static PotRecipe get(Level level, PotBlockEntity.PotInventory inventory)
+    {
+        return RecipeHelpers.getRecipe(CACHE.getAll(inventory.getFluidInTank(0).getFluid()), inventory, (recipe, input) -> recipe.matches(input, level));
+    }
+
     public static final MapCodec<PotRecipe> CODEC = RecordCodecBuilder.mapCodec(i -> i.group(
         Ingredient.CODEC.listOf(0, 5).fieldOf("ingredients").forGetter(c -> c.itemIngredients),
         SizedFluidIngredient.FLAT_CODEC.fieldOf("fluid_ingredient").forGetter(c -> c.fluidIngredient),
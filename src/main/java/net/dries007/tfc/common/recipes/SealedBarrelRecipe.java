@@ -29,6 +29,8 @@ import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 public class SealedBarrelRecipe extends BarrelRecipe
 {
+    public static final BarrelRecipeCache<SealedBarrelRecipe> CACHE = BarrelRecipeCache.create(TFCRecipeTypes.BARREL_SEALED);
+
     public static final MapCodec<SealedBarrelRecipe> CODEC = RecordCodecBuilder.mapCodec(i -> i.group(
         BarrelRecipe.CODEC.forGetter(c -> c),
         Codec.INT.fieldOf("duration").forGetter(c -> c.duration),
@@ -26,6 +26,10 @@ public class CommonConfig extends BaseConfig
     public final Supplier<Integer> defaultCalendarStartDay;
     public final Supplier<Integer> defaultCalendarDayLength;
 
+    // World Generation
+    public final Supplier<Boolean> enableRegionStorage;
+    public final Supplier<Boolean> parallelRegionGeneration;
+
     // Debug
     public final Supplier<Boolean> enableDatapackTests;
 
@@ -56,6 +60,18 @@ public class CommonConfig extends BaseConfig
             "This can be modified in existing worlds using the /time command"
         ).define("defaultCalendarDayLength", 24);
 
+        builder.swap("worldGeneration");
+
+        enableRegionStorage = builder.comment(
+            "If enabled, fully generated regions will be stored in the world save, under data/tfc_regions/",
+            "This avoids regenerating regions after a server restart, or when they fall out of the in-memory cache, at the cost of some disk space.",
+            "Regions can be pre-generated ahead of time using the /tfc pregen command."
+        ).define("enableRegionStorage", false);
+        parallelRegionGeneration = builder.comment(
+            "If enabled, neighboring regions, and independent parts of generating a single region, are generated in parallel on the common fork/join pool.",
+            "This does not change the generated world, only how quickly regions are generated, at the cost of using more threads during world generation."
+        ).define("parallelRegionGeneration", false);
+
         builder.swap("debug");
 
         enableDatapackTests = builder.comment("If enabled, TFC will validate that certain pieces of reloadable data fit the conditions we expect, for example heating recipes having heatable items. It will error or warn in the log if these conditions are not met.").define("enableDatapackTests", !FMLEnvironment.production);
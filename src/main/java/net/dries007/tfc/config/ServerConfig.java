@@ -213,6 +213,9 @@ public class ServerConfig extends BaseConfig
     public final Supplier<Double> collapseExplosionPropagateChance;
     public final Supplier<Integer> collapseMinRadius;
     public final Supplier<Integer> collapseRadiusVariance;
+    public final Supplier<Integer> collapseBlocksPerTick;
+    public final Supplier<Integer> collapseMaxFallingEntitiesPerTick;
+    public final Supplier<Double> worldTrackerTickBudget;
     // Mechanics - Player
     public final Supplier<Boolean> enablePeacefulDifficultyPassiveRegeneration;
     public final Supplier<Double> passiveExhaustionModifier;
@@ -272,6 +275,8 @@ public class ServerConfig extends BaseConfig
     public final OviparousAnimalConfig duckConfig;
     public final OviparousAnimalConfig quailConfig;
     public final Supplier<Double> familiarityDecayLimit;
+    public final Supplier<Integer> animalDormancyDistance;
+    public final Supplier<Integer> animalDormantBrainInterval;
 
     // Below Everything
     public final Supplier<Boolean> farmlandMakesTheBestRaceTracks;
@@ -580,6 +585,13 @@ public class ServerConfig extends BaseConfig
         collapseExplosionPropagateChance = builder.comment("Chance for a block to fall from an explosion triggered collapse. Higher = mor likely.").define("collapseExplosionPropagateChance", 0.3, 0, 1);
         collapseMinRadius = builder.comment("Minimum radius for a collapse").define("collapseMinRadius", 3, 1, 32);
         collapseRadiusVariance = builder.comment("Variance of the radius of a collapse. Total size is in [minRadius, minRadius + radiusVariance]").define("collapseRadiusVariance", 16, 1, 32);
+        collapseBlocksPerTick = builder.comment("The maximum number of blocks that are checked for collapsing each tick, across all collapses in a level. Remaining blocks are carried over to the next tick.").define("collapseBlocksPerTick", 512, 1, Integer.MAX_VALUE);
+        collapseMaxFallingEntitiesPerTick = builder.comment(
+            "The maximum number of falling block entities created by collapses each tick.",
+            "Any further collapsing blocks are moved directly to where they would land, which is much cheaper, but will not damage entities. Set to zero to always move blocks directly.").define("collapseMaxFallingEntitiesPerTick", 64, 0, Integer.MAX_VALUE);
+        worldTrackerTickBudget = builder.comment(
+            "The maximum time, in milliseconds, spent each tick processing pending collapses, landslides, and blocks that break when isolated.",
+            "Any work that does not fit in this budget is carried over to the next tick.").define("worldTrackerTickBudget", 5d, 0.1d, 50d);
 
         builder.swap("player");
 
@@ -705,6 +717,14 @@ public class ServerConfig extends BaseConfig
         builder.pop(2);
 
         familiarityDecayLimit = builder.comment("Familiarity value above which familiarity no longer will decay. Default is 0.3, or 30%. Setting it to 0 will cause familiarity to never decay.").define("familiarityDecayLimit", 0.3, 0.0, 1.0);
+        animalDormancyDistance = builder.comment(
+            "Animals further than this distance (in blocks) from any player become dormant, and only update their AI every 'animalDormantBrainInterval' ticks.",
+            "Dormant animals wake up immediately when hurt or interacted with. Set to 0 to disable dormancy."
+        ).define("animalDormancyDistance", 64, 0, 1024);
+        animalDormantBrainInterval = builder.comment(
+            "The number of ticks between AI updates for dormant animals. Setting this to 1 means dormant animals update every tick.",
+            "While dormant, memories expire and behaviors run this many times slower, i.e. an animal waits this many times longer before wandering again. Large values may make animals appear frozen when a player first approaches."
+        ).define("animalDormantBrainInterval", 10, 1, 200);
 
         builder.swap("weird");
         farmlandMakesTheBestRaceTracks = builder.define("farmlandMakesTheBestRaceTracks", false);
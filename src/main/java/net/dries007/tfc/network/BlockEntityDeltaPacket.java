@@ -0,0 +1,47 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.network;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.world.level.Level;
+
+import net.dries007.tfc.client.ClientHelpers;
+import net.dries007.tfc.common.blockentities.TFCBlockEntity;
+import net.dries007.tfc.util.NbtDelta;
+
+/**
+ * Syncs only the changed parts of a block entity's update tag, as a delta computed by {@link NbtDelta}.
+ */
+public record BlockEntityDeltaPacket(BlockPos pos, CompoundTag delta) implements CustomPacketPayload
+{
+    public static final CustomPacketPayload.Type<BlockEntityDeltaPacket> TYPE = PacketHandler.type("block_entity_delta");
+    public static final StreamCodec<RegistryFriendlyByteBuf, BlockEntityDeltaPacket> CODEC = StreamCodec.composite(
+        BlockPos.STREAM_CODEC, c -> c.pos,
+        ByteBufCodecs.TRUSTED_COMPOUND_TAG, c -> c.delta,
+        BlockEntityDeltaPacket::new
+    );
+
+    @Override
+    public Type<? extends CustomPacketPayload> type()
+    {
+        return TYPE;
+    }
+
+    void handle()
+    {
+        final Level level = ClientHelpers.getLevel();
+        if (level != null && level.isLoaded(pos) && level.getBlockEntity(pos) instanceof TFCBlockEntity entity)
+        {
+            entity.handleSyncDelta(delta, level.registryAccess());
+        }
+    }
+}
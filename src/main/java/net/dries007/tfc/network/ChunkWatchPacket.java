@@ -14,6 +14,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.LevelChunk;
 
 import net.dries007.tfc.client.ClientHelpers;
+import net.dries007.tfc.client.ClimateColorCache;
 import net.dries007.tfc.world.chunkdata.ChunkData;
 import net.dries007.tfc.world.chunkdata.ForestType;
 import net.dries007.tfc.world.chunkdata.LerpFloatLayer;
@@ -57,6 +58,7 @@ public record ChunkWatchPacket(
             if (data.status() != ChunkData.Status.INVALID)
             {
                 data.onUpdatePacket(rainfall, rainVariance, baseGroundwater, temperature, forestType);
+                ClimateColorCache.invalidate(pos);
             }
         }
     }
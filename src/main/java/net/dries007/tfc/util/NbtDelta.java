@@ -0,0 +1,161 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Computes, and applies, the difference between two compound tags. This is used to sync only the parts of a block entity's update tag that
+ * have changed since it was last synced. A delta is itself a compound tag, with the following optional entries:
+ * <ul>
+ *     <li>{@code set}: Keys which are new, or whose values have been replaced.</li>
+ *     <li>{@code remove}: A list of keys which have been removed.</li>
+ *     <li>{@code patch}: Keys whose values are compound tags in both, mapped to a nested delta.</li>
+ *     <li>{@code list}: Keys whose values are lists of the same size and type in both, mapped to the indices, and new values, of only the
+ *     elements which have changed. This means a change to a single inventory slot only syncs that slot.</li>
+ * </ul>
+ */
+public final class NbtDelta
+{
+    private static final String SET = "set";
+    private static final String REMOVE = "remove";
+    private static final String PATCH = "patch";
+    private static final String LIST = "list";
+    private static final String INDICES = "indices";
+    private static final String VALUES = "values";
+
+    /**
+     * @return A delta which transforms {@code from} into {@code to}, or {@code null} if they are equal. The delta may share tags with {@code to}.
+     */
+    @Nullable
+    public static CompoundTag diff(CompoundTag from, CompoundTag to)
+    {
+        final CompoundTag set = new CompoundTag(), patch = new CompoundTag(), list = new CompoundTag();
+        final ListTag remove = new ListTag();
+
+        for (String key : to.getAllKeys())
+        {
+            final Tag prev = from.get(key), next = to.get(key);
+            if (next == null || next.equals(prev))
+            {
+                continue;
+            }
+            if (prev instanceof CompoundTag prevCompound && next instanceof CompoundTag nextCompound)
+            {
+                patch.put(key, diff(prevCompound, nextCompound)); // Not null, as they are not equal
+            }
+            else if (prev instanceof ListTag prevList && next instanceof ListTag nextList && prevList.size() == nextList.size() && prevList.getElementType() == nextList.getElementType())
+            {
+                final IntArrayList indices = new IntArrayList();
+                final ListTag values = new ListTag();
+                for (int i = 0; i < nextList.size(); i++)
+                {
+                    if (!nextList.get(i).equals(prevList.get(i)))
+                    {
+                        indices.add(i);
+                        values.add(nextList.get(i));
+                    }
+                }
+                if (indices.size() < nextList.size())
+                {
+                    final CompoundTag elements = new CompoundTag();
+                    elements.putIntArray(INDICES, indices.toIntArray());
+                    elements.put(VALUES, values);
+                    list.put(key, elements);
+                }
+                else
+                {
+                    set.put(key, next); // Every element changed, so just replace the list
+                }
+            }
+            else
+            {
+                set.put(key, next);
+            }
+        }
+        for (String key : from.getAllKeys())
+        {
+            if (!to.contains(key))
+            {
+                remove.add(StringTag.valueOf(key));
+            }
+        }
+
+        if (set.isEmpty() && remove.isEmpty() && patch.isEmpty() && list.isEmpty())
+        {
+            return null;
+        }
+
+        final CompoundTag delta = new CompoundTag();
+        if (!set.isEmpty())
+        {
+            delta.put(SET, set);
+        }
+        if (!remove.isEmpty())
+        {
+            delta.put(REMOVE, remove);
+        }
+        if (!patch.isEmpty())
+        {
+            delta.put(PATCH, patch);
+        }
+        if (!list.isEmpty())
+        {
+            delta.put(LIST, list);
+        }
+        return delta;
+    }
+
+    /**
+     * Applies a delta, computed by {@link #diff(CompoundTag, CompoundTag)}, to {@code target}, in place. Tags from {@code delta} are copied,
+     * so it is not modified, and may be shared.
+     */
+    public static void apply(CompoundTag target, CompoundTag delta)
+    {
+        final CompoundTag set = delta.getCompound(SET);
+        for (String key : set.getAllKeys())
+        {
+            target.put(key, set.get(key).copy());
+        }
+
+        final ListTag remove = delta.getList(REMOVE, Tag.TAG_STRING);
+        for (int i = 0; i < remove.size(); i++)
+        {
+            target.remove(remove.getString(i));
+        }
+
+        final CompoundTag patch = delta.getCompound(PATCH);
+        for (String key : patch.getAllKeys())
+        {
+            if (target.get(key) instanceof CompoundTag nested)
+            {
+                apply(nested, patch.getCompound(key));
+            }
+        }
+
+        final CompoundTag list = delta.getCompound(LIST);
+        for (String key : list.getAllKeys())
+        {
+            if (target.get(key) instanceof ListTag targetList && list.get(key) instanceof CompoundTag elements && elements.get(VALUES) instanceof ListTag values)
+            {
+                final int[] indices = elements.getIntArray(INDICES);
+                for (int i = 0; i < indices.length && i < values.size(); i++)
+                {
+                    if (indices[i] < targetList.size())
+                    {
+                        targetList.set(indices[i], values.get(i).copy());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -20,6 +20,11 @@ public interface ICalendarTickable
 {
     /**
      * Here we check every tick for a calendar discrepancy. This only checks for differences in player time, and calls {@link ICalendarTickable#onCalendarUpdate(long playerTickDelta)} as necessary.
+     * A discrepancy is either the calendar being skipped forward (i.e. by sleeping, or commands), or this block entity not being ticked for a
+     * time (i.e. when its chunk was unloaded).
+     * <p>
+     * The block entity is only marked dirty when an update was applied. The last update tick does not need to be saved every tick, as it is
+     * always saved along with the rest of the block entity's state, so any older saved state will be caught up from the matching older tick.
      * <p>
      * Implementations MUST call {@code checkForCalendarUpdate()} in their {@code serverTick} method.
      */
@@ -31,12 +36,19 @@ public interface ICalendarTickable
             final long thisTick = Calendars.SERVER.getTicks();
             final long lastTick = getLastCalendarUpdateTick();
             final long tickDelta = thisTick - lastTick;
-            if (lastTick != Integer.MIN_VALUE && tickDelta != 1)
+
+            // In the common case, this is a regular tick (a delta of one), or the calendar is not advancing (a delta of zero, when no players
+            // are logged on). In both cases there is nothing to catch up, and no state has changed which needs to be saved.
+            final boolean skipped = lastTick != Integer.MIN_VALUE && tickDelta > 1;
+            if (skipped)
             {
                 onCalendarUpdate(tickDelta - 1);
             }
             setLastCalendarUpdateTick(thisTick);
-            markDirty();
+            if (skipped)
+            {
+                markDirty();
+            }
         }
     }
 
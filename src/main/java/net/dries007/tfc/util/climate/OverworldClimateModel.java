@@ -80,6 +80,12 @@ public class OverworldClimateModel implements ClimateModel
     protected final long climateSeed;
     protected final float temperatureScale;
 
+    /**
+     * The time-dependent, but position independent, parts of the temperature calculation. These are cached for the most recently queried
+     * time, as many positions are queried at the same time, but computing the daily temperature requires constructing and sampling a random.
+     */
+    private volatile @Nullable Seasonal seasonal;
+
     public OverworldClimateModel(ServerLevel level, ChunkGeneratorExtension extension)
     {
         this(
@@ -116,16 +122,10 @@ public class OverworldClimateModel implements ClimateModel
     public float getTemperature(LevelReader level, BlockPos pos, long calendarTicks, int daysInMonth)
     {
         final ChunkData data = ChunkData.get(level, pos);
+        final Seasonal seasonal = getSeasonal(calendarTicks, daysInMonth);
+        final float monthTemperature = calculateMonthlyTemperature(pos.getZ(), seasonal.monthFactor);
 
-        // Month temperature
-        final Month currentMonth = ICalendar.getMonthOfYear(calendarTicks, daysInMonth);
-        final float delta = ICalendar.getFractionOfMonth(calendarTicks, daysInMonth);
-        final float monthFactor = Mth.lerp(delta, currentMonth.getTemperatureModifier(), currentMonth.next().getTemperatureModifier());
-
-        final float monthTemperature = calculateMonthlyTemperature(pos.getZ(), monthFactor);
-        final float dailyTemperature = calculateDailyTemperature(calendarTicks);
-
-        return adjustTemperatureByElevation(pos.getY(), data.getAverageTemp(pos), monthTemperature, dailyTemperature);
+        return adjustTemperatureByElevation(pos.getY(), data.getAverageTemp(pos), monthTemperature, seasonal.dailyTemperature);
     }
 
     @Override
@@ -401,8 +401,26 @@ public class OverworldClimateModel implements ClimateModel
         return ((random.nextFloat() - random.nextFloat()) + 0.3f * hourModifier) * 3f;
     }
 
+    private Seasonal getSeasonal(long calendarTicks, int daysInMonth)
+    {
+        Seasonal seasonal = this.seasonal;
+        if (seasonal == null || seasonal.calendarTicks != calendarTicks || seasonal.daysInMonth != daysInMonth)
+        {
+            // Month temperature
+            final Month currentMonth = ICalendar.getMonthOfYear(calendarTicks, daysInMonth);
+            final float delta = ICalendar.getFractionOfMonth(calendarTicks, daysInMonth);
+            final float monthFactor = Mth.lerp(delta, currentMonth.getTemperatureModifier(), currentMonth.next().getTemperatureModifier());
+
+            seasonal = new Seasonal(calendarTicks, daysInMonth, monthFactor, calculateDailyTemperature(calendarTicks));
+            this.seasonal = seasonal;
+        }
+        return seasonal;
+    }
+
     protected RandomSource seededRandom(long day, long salt)
     {
         return new XoroshiroRandomSource(LinearCongruentialGenerator.next(day, climateSeed), salt);
     }
+
+    record Seasonal(long calendarTicks, int daysInMonth, float monthFactor, float dailyTemperature) {}
 }
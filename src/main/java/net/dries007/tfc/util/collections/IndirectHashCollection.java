@@ -8,6 +8,7 @@ package net.dries007.tfc.util.collections;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -65,6 +66,18 @@ public class IndirectHashCollection<K, R>
         return cache;
     }
 
+    /**
+     * Creates a new {@link IndirectHashCollection} of recipe holders that is backed from the given recipe type. Within each key, recipes are
+     * ordered by {@code order}, which allows callers to stop iterating early, i.e. once past a threshold. This will manage the cache's overall
+     * lifecycle, including clearing and reloading, as necessary.
+     */
+    public static <K, R extends Recipe<?>> IndirectHashCollection<K, RecipeHolder<R>> createForRecipeHolder(Function<R, Iterable<? extends K>> keyExtractor, Supplier<RecipeType<R>> recipeType, Comparator<R> order)
+    {
+        final IndirectHashCollection<K, RecipeHolder<R>> cache = new IndirectHashCollection<>(holder -> keyExtractor.apply(holder.value()));
+        create(new RecipeHolderCache<>(cache, recipeType, order));
+        return cache;
+    }
+
     /**
      * Creates a new bijective ID map between that is backed from the given recipe type. This will manage the cache's overall
      * lifecycle, including clearing and reloading, as necessary
@@ -149,6 +162,12 @@ public class IndirectHashCollection<K, R>
         @Override public void reload(RecipeManager manager) { cache.reload(RecipeHelpers.getRecipes(manager, recipeType).stream().map(RecipeHolder::value).toList()); }
     }
 
+    record RecipeHolderCache<K, R extends Recipe<?>>(IndirectHashCollection<K, RecipeHolder<R>> cache, Supplier<RecipeType<R>> recipeType, Comparator<R> order) implements Cache
+    {
+        @Override public void clear() { cache.clear(); }
+        @Override public void reload(RecipeManager manager) { cache.reload(RecipeHelpers.getRecipes(manager, recipeType).stream().sorted(Comparator.comparing(RecipeHolder::value, order)).toList()); }
+    }
+
     record RecipeIdCache<R extends Recipe<?>>(BiMap<ResourceLocation, R> cache, Supplier<RecipeType<R>> recipeType) implements Cache
     {
         @Override
@@ -0,0 +1,159 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import com.mojang.logging.LogUtils;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeManager;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import net.dries007.tfc.common.recipes.IRecipePredicate;
+
+/**
+ * A per-{@link Item} memo over an {@link IndirectHashCollection} of item definitions (i.e. heat, or food definitions), which are queried on
+ * the construction of every item stack.
+ * <p>
+ * Most definitions use simple ingredients, which only test the item of a stack. Since every candidate in the collection for a given item has
+ * that item as a key, the first simple candidate for an item is guaranteed to match any stack of that item, and any candidates after it will
+ * never be reached. So, per item, we only need to test the (typically empty) list of non-simple candidates before the first simple one, which
+ * may depend on the components of the stack, and otherwise can return the first simple candidate, or none, directly.
+ * <p>
+ * This is cleared along with all other {@link IndirectHashCollection}s, on reload.
+ */
+public final class ItemDefinitionCache<R extends IRecipePredicate<ItemStack>> implements IndirectHashCollection.Cache
+{
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    public static <R extends IRecipePredicate<ItemStack>> ItemDefinitionCache<R> create(String name, IndirectHashCollection<Item, R> collection, Function<R, Ingredient> ingredient)
+    {
+        return IndirectHashCollection.create(new ItemDefinitionCache<>(name, collection, ingredient));
+    }
+
+    private final String name;
+    private final IndirectHashCollection<Item, R> collection;
+    private final Function<R, Ingredient> ingredient;
+
+    private volatile Map<Item, Entry<R>> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder tests = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private ItemDefinitionCache(String name, IndirectHashCollection<Item, R> collection, Function<R, Ingredient> ingredient)
+    {
+        this.name = name;
+        this.collection = collection;
+        this.ingredient = ingredient;
+    }
+
+    /**
+     * @return The first definition matching {@code stack}, identical to {@link net.dries007.tfc.common.recipes.RecipeHelpers#getRecipe(IndirectHashCollection, Object, Object)}
+     */
+    @Nullable
+    public R get(ItemStack stack)
+    {
+        final Item item = stack.getItem();
+        final Map<Item, Entry<R>> entries = this.entries;
+
+        // Each query is counted exactly once, as either a miss, a hit, or a test
+        Entry<R> entry = entries.get(item);
+        if (entry == null)
+        {
+            misses.increment();
+            entry = createEntry(item);
+            entries.put(item, entry);
+        }
+        else if (entry.tested.isEmpty())
+        {
+            hits.increment();
+        }
+        else
+        {
+            tests.increment();
+        }
+
+        for (R candidate : entry.tested)
+        {
+            if (candidate.matches(stack))
+            {
+                return candidate;
+            }
+        }
+        return entry.fallback;
+    }
+
+    /**
+     * @return The number of queries for a cached item, answered without testing any ingredients
+     */
+    public long hits()
+    {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of queries for a cached item, which needed to test at least one component-sensitive ingredient
+     */
+    public long tests()
+    {
+        return tests.sum();
+    }
+
+    /**
+     * @return The number of queries for an item that was not yet cached. These are not counted as either hits or tests.
+     */
+    public long misses()
+    {
+        return misses.sum();
+    }
+
+    @Override
+    public void clear()
+    {
+        final long hits = this.hits.sumThenReset(), tests = this.tests.sumThenReset(), misses = this.misses.sumThenReset();
+        final long total = hits + tests + misses;
+        if (total > 0)
+        {
+            LOGGER.debug("Cleared {} definition cache: {} queries, {}% hits, {}% tests, {}% misses", name, total, 100 * hits / total, 100 * tests / total, 100 * misses / total);
+        }
+        entries = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void reload(RecipeManager manager)
+    {
+        clear(); // Entries are recomputed lazily, from the reloaded collection
+    }
+
+    private Entry<R> createEntry(Item item)
+    {
+        final List<R> tested = new ArrayList<>();
+        for (R candidate : collection.getAll(item))
+        {
+            if (ingredient.apply(candidate).isSimple())
+            {
+                return new Entry<>(List.copyOf(tested), candidate);
+            }
+            tested.add(candidate);
+        }
+        return new Entry<>(List.copyOf(tested), null);
+    }
+
+    /**
+     * @param tested Candidates which must be tested against each stack, in order
+     * @param fallback The result if none of {@code tested} match
+     */
+    record Entry<R>(List<R> tested, @Nullable R fallback) {}
+}
@@ -7,6 +7,7 @@
 package net.dries007.tfc.util.data;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
@@ -14,6 +15,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
@@ -22,6 +24,7 @@ import org.jetbrains.annotations.Nullable;
 import net.dries007.tfc.common.recipes.ingredients.BlockIngredient;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.tracker.WorldTracker;
 
 public record Support(
     BlockIngredient ingredient,
@@ -65,6 +68,11 @@ public record Support(
      */
     public static Set<BlockPos> findUnsupportedPositions(BlockGetter worldIn, BlockPos from, BlockPos to)
     {
+        if (worldIn instanceof ServerLevel level)
+        {
+            return findUnsupportedPositions(WorldTracker.get(level).getSupportIndex(), from, to);
+        }
+
         Set<BlockPos> listSupported = new HashSet<>();
         Set<BlockPos> listUnsupported = new HashSet<>();
         int minX = Math.min(from.getX(), to.getX());
@@ -96,8 +104,66 @@ public record Support(
         return listUnsupported;
     }
 
+    /**
+     * Equivalent to {@link #findUnsupportedPositions(BlockGetter, BlockPos, BlockPos)}, but only queries the supports known to {@code index},
+     * rather than every block in the area. If any supports in range are in unloaded chunks, the whole area is treated as supported.
+     */
+    public static Set<BlockPos> findUnsupportedPositions(SupportIndex index, BlockPos from, BlockPos to)
+    {
+        final int minX = Math.min(from.getX(), to.getX()), maxX = Math.max(from.getX(), to.getX());
+        final int minY = Math.min(from.getY(), to.getY()), maxY = Math.max(from.getY(), to.getY());
+        final int minZ = Math.min(from.getZ(), to.getZ()), maxZ = Math.max(from.getZ(), to.getZ());
+        final int sizeX = maxX - minX + 1, sizeY = maxY - minY + 1, sizeZ = maxZ - minZ + 1;
+
+        final @Nullable List<SupportIndex.Located> supports = index.find(
+            new BlockPos(minX - RANGE.horizontal(), minY - RANGE.down(), minZ - RANGE.horizontal()),
+            new BlockPos(maxX + RANGE.horizontal(), maxY + RANGE.up(), maxZ + RANGE.horizontal()));
+        if (supports == null)
+        {
+            return new HashSet<>(); // Supports in an unloaded chunk may hold up this area, so fail safe and don't collapse anything
+        }
+
+        // Mark every position in the area that is supported by at least one support
+        final boolean[] supported = new boolean[sizeX * sizeY * sizeZ];
+        for (SupportIndex.Located located : supports)
+        {
+            final BlockPos center = located.pos();
+            final Support support = located.support();
+            for (int x = Math.max(minX, center.getX() - support.supportHorizontal); x <= Math.min(maxX, center.getX() + support.supportHorizontal); x++)
+            {
+                for (int y = Math.max(minY, center.getY() - support.supportDown); y <= Math.min(maxY, center.getY() + support.supportUp); y++)
+                {
+                    for (int z = Math.max(minZ, center.getZ() - support.supportHorizontal); z <= Math.min(maxZ, center.getZ() + support.supportHorizontal); z++)
+                    {
+                        supported[(x - minX) + sizeX * ((y - minY) + sizeY * (z - minZ))] = true;
+                    }
+                }
+            }
+        }
+
+        final Set<BlockPos> listUnsupported = new HashSet<>();
+        for (int x = 0; x < sizeX; x++)
+        {
+            for (int y = 0; y < sizeY; y++)
+            {
+                for (int z = 0; z < sizeZ; z++)
+                {
+                    if (!supported[x + sizeX * (y + sizeY * z)])
+                    {
+                        listUnsupported.add(new BlockPos(minX + x, minY + y, minZ + z));
+                    }
+                }
+            }
+        }
+        return listUnsupported;
+    }
+
     public static boolean isSupported(BlockGetter world, BlockPos pos)
     {
+        if (world instanceof ServerLevel level)
+        {
+            return isSupported(WorldTracker.get(level).getSupportIndex(), pos);
+        }
         for (BlockPos supportPos : getMaximumSupportedAreaAround(pos, pos))
         {
             final BlockState supportState = world.getBlockState(supportPos);
@@ -110,6 +176,29 @@ public record Support(
         return false;
     }
 
+    /**
+     * Equivalent to {@link #isSupported(BlockGetter, BlockPos)}, but only queries the supports known to {@code index}. If any supports in range
+     * are in unloaded chunks, the position is treated as supported.
+     */
+    public static boolean isSupported(SupportIndex index, BlockPos pos)
+    {
+        final @Nullable List<SupportIndex.Located> supports = index.find(
+            pos.offset(-RANGE.horizontal(), -RANGE.down(), -RANGE.horizontal()),
+            pos.offset(RANGE.horizontal(), RANGE.up(), RANGE.horizontal()));
+        if (supports == null)
+        {
+            return true; // Fail safe, as a support in an unloaded chunk may be holding this up
+        }
+        for (SupportIndex.Located located : supports)
+        {
+            if (located.support().canSupport(located.pos(), pos))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static Iterable<BlockPos> getMaximumSupportedAreaAround(BlockPos minPoint, BlockPos maxPoint)
     {
         return BlockPos.betweenClosed(minPoint.offset(-RANGE.horizontal(), -RANGE.down(), -RANGE.horizontal()), maxPoint.offset(RANGE.horizontal(), RANGE.up(), RANGE.horizontal()));
@@ -140,6 +229,7 @@ public record Support(
         }
 
         RANGE = new SupportRange(up, down, horizontal);
+        SupportIndex.invalidateAll();
     }
 
     public boolean canSupport(BlockPos supportPos, BlockPos testPos)
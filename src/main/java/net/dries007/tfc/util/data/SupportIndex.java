@@ -0,0 +1,231 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An index of the positions of all {@link Support} blocks, per chunk section, which allows support checks to only query a handful of known
+ * supports, rather than every block in a volume around the checked position.
+ * <ul>
+ *     <li>Sections are indexed lazily, when first queried. For a level, this first checks the section palette, so that the common case of a
+ *     section without any supports does not need to query any individual blocks.</li>
+ *     <li>Once indexed, sections are kept up to date by {@link #onBlockChanged(BlockPos, BlockState)}. This is called by TFC's support blocks
+ *     when they are placed or removed, as they are often placed without notifying neighbors, and for all other blocks on neighbor updates.</li>
+ *     <li>Sections in chunks which are not loaded are never indexed, so queries never load chunks. Since the supports in those sections are
+ *     unknown, a query which touches any of them fails, and callers treat the queried area as supported, rather than risk a collapse.</li>
+ *     <li>Indexed supports are re-validated on query, so a support that was removed without a block update is never reported.</li>
+ *     <li>All sections are re-indexed after supports are reloaded, and sections in a chunk are dropped when that chunk is unloaded.</li>
+ * </ul>
+ * This is not thread safe, and on a server, must only be accessed from the server thread.
+ */
+public final class SupportIndex
+{
+    private static final AtomicInteger GENERATION = new AtomicInteger(); // Incremented whenever supports are reloaded, which invalidates all existing indexes
+
+    /**
+     * Invalidates all indexes, called when supports are reloaded. This may be called from either logical side.
+     */
+    public static void invalidateAll()
+    {
+        GENERATION.incrementAndGet();
+    }
+
+    private final BlockGetter level;
+    private final Long2ObjectOpenHashMap<Section> sections = new Long2ObjectOpenHashMap<>();
+
+    public SupportIndex(BlockGetter level)
+    {
+        this.level = level;
+    }
+
+    /**
+     * Finds all supports within a volume.
+     *
+     * @param from The minimum corner of the volume, inclusive.
+     * @param to The maximum corner of the volume, inclusive.
+     * @return All supports within the volume, or {@code null} if any section in the volume is not loaded, and so it is not known if it
+     * contains any supports.
+     */
+    @Nullable
+    public List<Located> find(BlockPos from, BlockPos to)
+    {
+        final List<Located> found = new ArrayList<>();
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (int sectionX = SectionPos.blockToSectionCoord(from.getX()); sectionX <= SectionPos.blockToSectionCoord(to.getX()); sectionX++)
+        {
+            for (int sectionZ = SectionPos.blockToSectionCoord(from.getZ()); sectionZ <= SectionPos.blockToSectionCoord(to.getZ()); sectionZ++)
+            {
+                for (int sectionY = SectionPos.blockToSectionCoord(from.getY()); sectionY <= SectionPos.blockToSectionCoord(to.getY()); sectionY++)
+                {
+                    final @Nullable Section section = getOrIndex(sectionX, sectionY, sectionZ);
+                    if (section == null)
+                    {
+                        return null; // Not loaded, so any supports here are unknown
+                    }
+                    final LongIterator iterator = section.positions.iterator();
+                    while (iterator.hasNext())
+                    {
+                        final long packedPos = iterator.nextLong();
+                        final int x = BlockPos.getX(packedPos), y = BlockPos.getY(packedPos), z = BlockPos.getZ(packedPos);
+                        if (x >= from.getX() && x <= to.getX() && y >= from.getY() && y <= to.getY() && z >= from.getZ() && z <= to.getZ())
+                        {
+                            final Support support = Support.get(level.getBlockState(cursor.set(x, y, z)));
+                            if (support == null)
+                            {
+                                iterator.remove(); // Stale, this support was removed without a block update
+                                continue;
+                            }
+                            found.add(new Located(cursor.immutable(), support));
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Updates the index for a block change, if the section containing that block has already been indexed.
+     */
+    public void onBlockChanged(BlockPos pos, BlockState state)
+    {
+        final Section section = sections.get(SectionPos.asLong(pos));
+        if (section != null && section.generation == GENERATION.get())
+        {
+            if (Support.get(state) != null)
+            {
+                section.positions.add(pos.asLong());
+            }
+            else
+            {
+                section.positions.remove(pos.asLong());
+            }
+        }
+    }
+
+    /**
+     * Drops all indexed sections in a chunk, when the chunk is unloaded.
+     */
+    public void onChunkUnloaded(ChunkPos pos)
+    {
+        for (int sectionY = level.getMinSection(); sectionY < level.getMaxSection(); sectionY++)
+        {
+            sections.remove(SectionPos.asLong(pos.x, sectionY, pos.z));
+        }
+    }
+
+    /**
+     * @return The number of indexed sections.
+     */
+    public int size()
+    {
+        return sections.size();
+    }
+
+    public void clear()
+    {
+        sections.clear();
+    }
+
+    @Nullable
+    private Section getOrIndex(int sectionX, int sectionY, int sectionZ)
+    {
+        final long key = SectionPos.asLong(sectionX, sectionY, sectionZ);
+        final int generation = GENERATION.get();
+        Section section = sections.get(key);
+        if (section == null || section.generation != generation)
+        {
+            final @Nullable LongOpenHashSet positions = index(sectionX, sectionY, sectionZ);
+            if (positions == null)
+            {
+                return null; // Don't cache sections that are not loaded, so they are indexed once they are
+            }
+            section = new Section(generation, positions);
+            sections.put(key, section);
+        }
+        return section;
+    }
+
+    /**
+     * @return The positions of all supports in a section, or {@code null} if the section is not loaded. This will never load chunks.
+     */
+    @Nullable
+    private LongOpenHashSet index(int sectionX, int sectionY, int sectionZ)
+    {
+        final LongOpenHashSet positions = new LongOpenHashSet();
+        if (sectionY < level.getMinSection() || sectionY >= level.getMaxSection())
+        {
+            return positions;
+        }
+
+        final int minX = SectionPos.sectionToBlockCoord(sectionX), minY = SectionPos.sectionToBlockCoord(sectionY), minZ = SectionPos.sectionToBlockCoord(sectionZ);
+        if (level instanceof LevelReader reader)
+        {
+            // Query the section directly, and skip it entirely if the palette has no supports
+            final @Nullable ChunkAccess chunk = reader.getChunk(sectionX, sectionZ, ChunkStatus.FULL, false);
+            if (chunk == null)
+            {
+                return null;
+            }
+            final LevelChunkSection section = chunk.getSection(reader.getSectionIndexFromSectionY(sectionY));
+            if (section.hasOnlyAir() || !section.getStates().maybeHas(state -> Support.get(state) != null))
+            {
+                return positions;
+            }
+            for (int y = 0; y < 16; y++)
+            {
+                for (int z = 0; z < 16; z++)
+                {
+                    for (int x = 0; x < 16; x++)
+                    {
+                        if (Support.get(section.getBlockState(x, y, z)) != null)
+                        {
+                            positions.add(BlockPos.asLong(minX + x, minY + y, minZ + z));
+                        }
+                    }
+                }
+            }
+            return positions;
+        }
+
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (int y = 0; y < 16; y++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                for (int x = 0; x < 16; x++)
+                {
+                    if (Support.get(level.getBlockState(cursor.set(minX + x, minY + y, minZ + z))) != null)
+                    {
+                        positions.add(cursor.asLong());
+                    }
+                }
+            }
+        }
+        return positions;
+    }
+
+    public record Located(BlockPos pos, Support support) {}
+
+    record Section(int generation, LongOpenHashSet positions) {}
+}
@@ -7,7 +7,9 @@
 package net.dries007.tfc.util.rotation;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -25,15 +27,19 @@ import org.jetbrains.annotations.Nullable;
  */
 final class RotationNetwork
 {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
     private final long id;
     private final Node source;
     private final Long2ObjectMap<Node> nodes;
+    private final List<Node> pendingRoots;
 
     RotationNetwork(long id, Node source)
     {
         this.id = id;
         this.source = source;
         this.nodes = new Long2ObjectOpenHashMap<>();
+        this.pendingRoots = new ArrayList<>();
     }
 
     /**
@@ -195,23 +201,84 @@ final class RotationNetwork
     }
 
     /**
-     * Update a network, once a node within it has been updated or removed.
+     * Marks the subtree downstream of {@code root} as needing to be recomputed, once a node has been updated or removed. The recomputation is
+     * deferred until {@link #applyPendingChanges()}, so that many changes in the same tick, i.e. a chunk unloading, only recompute once.
      */
-    void updateNetwork()
+    void invalidate(Node root)
     {
-        // BFS from the source, marking each node as either visited, or unvisited.
-        // This method assumes all current nodes in the graph represent the real state in world.
-        // Thus, it should be called whenever nodes are removed, to detect disconnected components
+        pendingRoots.add(root);
+    }
 
-        final Queue<Node> queue = new ArrayDeque<>();
-        final Set<Node> visited = new ReferenceOpenHashSet<>();
+    /**
+     * Update a network, once nodes within it have been updated or removed. Rather than searching the entire network from the source, this
+     * only recomputes the subtrees downstream of each changed node, as no other node in the network can have been affected.
+     */
+    void applyPendingChanges()
+    {
+        if (pendingRoots.isEmpty())
+        {
+            return;
+        }
+
+        // Collect every node downstream of a changed node, by following nodes whose source direction points back to the current node.
+        // Each node has exactly one source, so this visits each node in the subtree once. All directions are checked, as an updated node may
+        // have lost the connection to one of its children. Removed nodes are no longer in the network, but their children are still found.
+        final Queue<Node> queue = new ArrayDeque<>(pendingRoots);
+        final Set<Node> subtree = new ReferenceOpenHashSet<>();
         final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
 
-        queue.add(source);
+        for (Node root : pendingRoots)
+        {
+            if (nodes.get(root.posKey()) == root)
+            {
+                subtree.add(root);
+            }
+        }
+        pendingRoots.clear();
+
+        while (!queue.isEmpty())
+        {
+            final Node current = queue.poll();
+
+            for (Direction direction : DIRECTIONS)
+            {
+                cursor.setWithOffset(current.pos(), direction);
+
+                final @Nullable Node next = getNode(cursor);
+                if (next != null && // There is a node at this position
+                    next.source() == direction.getOpposite() && // Which is sourced from the current node
+                    subtree.add(next) // And we haven't already visited it
+                )
+                {
+                    queue.add(next);
+                }
+            }
+        }
+
+        // The rest of the network is unaffected, so any node in it adjacent to the subtree can re-supply rotation to it.
+        // Then BFS from those, as in a full update, but only through nodes within the subtree.
+        final Set<Node> boundary = new ReferenceOpenHashSet<>();
+        for (Node node : subtree)
+        {
+            for (Direction direction : node.connections())
+            {
+                cursor.setWithOffset(node.pos(), direction);
+
+                final @Nullable Node adjacent = getNode(cursor);
+                if (adjacent != null && // There is a node at this position
+                    !subtree.contains(adjacent) && // Outside the subtree, so it is still connected
+                    adjacent.connections().contains(direction.getOpposite()) && // Which connects in the matching direction
+                    boundary.add(adjacent) // And isn't already a starting point
+                )
+                {
+                    queue.add(adjacent);
+                }
+            }
+        }
 
-        // Initially populate the visited set with all nodes, and remove them as we find them
+        // Initially populate the unvisited set with all nodes in the subtree, and remove them as we find them
         // This leaves the final set as all disconnected nodes, which makes removing them trivial
-        visited.addAll(nodes.values());
+        final Set<Node> unvisited = subtree;
 
         while (!queue.isEmpty())
         {
@@ -226,7 +293,7 @@ final class RotationNetwork
 
                 if (next != null && // There is a node at this position
                     next.connections().contains(inverseDirection) && // That connects in the matching direction
-                    visited.contains(next) // We haven't already visited this node, and updated its rotation (and source). Prevents cycles
+                    unvisited.contains(next) // We haven't already visited this node, and updated its rotation (and source). Prevents cycles
                 )
                 {
                     // This node connects in the given direction, so we need to (1) mark it as seen, (2) push it to the queue, and (3) update the rotation parameters
@@ -244,13 +311,13 @@ final class RotationNetwork
                     }
 
                     queue.add(next);
-                    visited.remove(next);
+                    unvisited.remove(next);
                 }
             }
         }
 
         // Any nodes that were not visited, are disconnected and are removed from the network
-        for (Node node : visited)
+        for (Node node : unvisited)
         {
             node.remove();
             nodes.remove(node.posKey());
@@ -267,6 +334,7 @@ final class RotationNetwork
             node.remove();
         }
         nodes.clear();
+        pendingRoots.clear();
     }
 
     boolean isSource(Node node)
@@ -7,9 +7,11 @@
 package net.dries007.tfc.util.rotation;
 
 import java.util.Comparator;
+import java.util.Set;
 import java.util.stream.Collectors;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
@@ -35,12 +37,16 @@ public final class RotationNetworkManager implements RotationAccess
     // This is a cache of all nodes in the world. It's probably not the most efficient data structure, but comparable to fetching block entities.
     // We maintain this mainly due to the fact that when nodes initially load on client, they don't exist in the world yet, so we can't do BFS to structure networks.
     private final Long2ObjectMap<Node> nodes;
+
+    // Networks which have changes deferred until the next tick, see applyPendingChanges()
+    private final Set<RotationNetwork> pendingNetworks;
     private long nextNetworkId;
 
     public RotationNetworkManager()
     {
         this.networks = new Long2ObjectOpenHashMap<>();
         this.nodes = new Long2ObjectOpenHashMap<>();
+        this.pendingNetworks = new ReferenceOpenHashSet<>();
         this.nextNetworkId = 0;
     }
 
@@ -68,6 +74,8 @@ public final class RotationNetworkManager implements RotationAccess
      */
     public boolean addSource(SourceNode sourceToAdd)
     {
+        applyPendingChanges();
+
         // When adding a source, first search and make sure that we don't connect to any existing networks
         // Any disconnected connections would become part of this network, so those are fine to ignore for now
         final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
@@ -109,6 +117,8 @@ public final class RotationNetworkManager implements RotationAccess
      */
     public boolean add(Node toAdd)
     {
+        applyPendingChanges();
+
         @Nullable RotationNetwork addedNetwork = null;
         for (RotationNetwork network : networks.values())
         {
@@ -159,6 +169,8 @@ public final class RotationNetworkManager implements RotationAccess
      */
     public boolean update(Node toUpdate)
     {
+        applyPendingChanges();
+
         final long networkId = toUpdate.network();
         if (networkId != Node.NO_NETWORK)
         {
@@ -183,7 +195,8 @@ public final class RotationNetworkManager implements RotationAccess
 
                         // Remove from the original network, and then update any connected nodes
                         originNetwork.removeNode(toUpdate);
-                        originNetwork.updateNetwork();
+                        originNetwork.invalidate(toUpdate);
+                        pendingNetworks.add(originNetwork);
 
                         // Return false, indicating the node was broken and needs to be removed
                         return false;
@@ -191,11 +204,15 @@ public final class RotationNetworkManager implements RotationAccess
                 }
             }
 
-            // We first have to reconsider this node as 'added', because it may have increased connectivity to nodes outside the network, that were disconnected.
-            originNetwork.updateAfterAdd(toUpdate, this);
+            // We first need to update the network downstream of this node, because we may have _lost_ connectivity with this node, or changed the rotation it provides
+            originNetwork.invalidate(toUpdate);
+            originNetwork.applyPendingChanges();
 
-            // Then, we need to update the network, because likewise we may have _lost_ connectivity with this node
-            originNetwork.updateNetwork();
+            // Then, if it is still connected, we reconsider this node as 'added', because it may have increased connectivity to nodes outside the network, that were disconnected.
+            if (toUpdate.network() == networkId)
+            {
+                originNetwork.updateAfterAdd(toUpdate, this);
+            }
             return true;
         }
         else
@@ -225,21 +242,41 @@ public final class RotationNetworkManager implements RotationAccess
                     // When we remove the source of a network, we remove the entire network
                     network.removeNetwork();
                     networks.remove(networkId);
+                    pendingNetworks.remove(network);
                 }
                 else
                 {
-                    // Otherwise, we need to update the network regularly, after removing the specific node
+                    // Otherwise, we need to update the network downstream of the removed node
+                    // This is deferred until the next tick, as many nodes are often removed at once, i.e. when a chunk is unloaded
                     network.removeNode(toRemove);
-                    network.updateNetwork();
+                    network.invalidate(toRemove);
+                    pendingNetworks.add(network);
                 }
             }
         }
     }
 
+    /**
+     * Applies any changes to networks which were deferred, such as from removing nodes. This is called once per tick, on both sides, and
+     * before any change that needs networks to be up to date, such as adding a node.
+     */
+    public void applyPendingChanges()
+    {
+        if (!pendingNetworks.isEmpty())
+        {
+            for (RotationNetwork network : pendingNetworks)
+            {
+                network.applyPendingChanges();
+            }
+            pendingNetworks.clear();
+        }
+    }
+
     public void clear()
     {
         this.nodes.clear();
         this.networks.clear();
+        this.pendingNetworks.clear();
         this.nextNetworkId = 0;
     }
 
@@ -0,0 +1,172 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import java.util.function.LongConsumer;
+import it.unimi.dsi.fastutil.longs.Long2LongLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+
+/**
+ * A deduplicated queue of block positions, each with a tick at which they become due, bucketed by chunk. Positions are packed with
+ * {@link BlockPos#asLong()}, so this does not allocate per entry.
+ * <ul>
+ *     <li>Adding a position which is already queued is a no-op, and it keeps the original due tick.</li>
+ *     <li>Positions are processed in chunk order, which keeps block state queries local, and in insertion order within a chunk.</li>
+ *     <li>Processing can stop at a deadline, in which case any remaining positions are carried over to the next call.</li>
+ *     <li>Positions added while processing (i.e. by block updates caused by processing) are buffered, and only visible to the next call.</li>
+ * </ul>
+ * Within each chunk, positions must be added with non-decreasing due ticks, so the first position of a chunk is always the earliest due.
+ */
+final class ChunkPosQueue
+{
+    private final Long2ObjectLinkedOpenHashMap<Long2LongLinkedOpenHashMap> buckets = new Long2ObjectLinkedOpenHashMap<>();
+    private final LongArrayList pendingPositions = new LongArrayList();
+    private final LongArrayList pendingDueTicks = new LongArrayList();
+
+    private int size;
+    private long duplicates;
+    private boolean processing;
+
+    /**
+     * @return {@code true} if the position was not already queued. Positions added during processing are always reported as added.
+     */
+    public boolean add(long pos, long dueTick)
+    {
+        if (processing)
+        {
+            pendingPositions.add(pos);
+            pendingDueTicks.add(dueTick);
+            return true;
+        }
+
+        final long chunk = ChunkPos.asLong(SectionPos.blockToSectionCoord(BlockPos.getX(pos)), SectionPos.blockToSectionCoord(BlockPos.getZ(pos)));
+        Long2LongLinkedOpenHashMap bucket = buckets.get(chunk);
+        if (bucket == null)
+        {
+            bucket = new Long2LongLinkedOpenHashMap();
+            buckets.put(chunk, bucket);
+        }
+        if (bucket.containsKey(pos))
+        {
+            duplicates++;
+            return false;
+        }
+        bucket.put(pos, dueTick);
+        size++;
+        return true;
+    }
+
+    /**
+     * Processes positions which are due at {@code currentTick}, until either none remain, or {@code deadlineNanos} is reached.
+     *
+     * @return The number of positions processed.
+     */
+    public int process(long currentTick, long deadlineNanos, LongConsumer action)
+    {
+        int processed = 0;
+        processing = true;
+        try
+        {
+            final ObjectIterator<Long2ObjectLinkedOpenHashMap.Entry<Long2LongLinkedOpenHashMap>> iterator = buckets.long2ObjectEntrySet().fastIterator();
+            while (iterator.hasNext())
+            {
+                final Long2LongLinkedOpenHashMap bucket = iterator.next().getValue();
+                while (!bucket.isEmpty() && bucket.get(bucket.firstLongKey()) <= currentTick)
+                {
+                    final long pos = bucket.firstLongKey();
+                    bucket.removeFirstLong();
+                    size--;
+                    processed++;
+                    action.accept(pos);
+
+                    if (System.nanoTime() >= deadlineNanos)
+                    {
+                        if (bucket.isEmpty())
+                        {
+                            iterator.remove();
+                        }
+                        return processed;
+                    }
+                }
+                if (bucket.isEmpty())
+                {
+                    iterator.remove();
+                }
+            }
+            return processed;
+        }
+        finally
+        {
+            processing = false;
+            flush();
+        }
+    }
+
+    public void forEach(LongConsumer action)
+    {
+        for (Long2LongLinkedOpenHashMap bucket : buckets.values())
+        {
+            bucket.keySet().forEach(action);
+        }
+    }
+
+    /**
+     * @return The number of queued positions, including those not yet due.
+     */
+    public int size()
+    {
+        return size + pendingPositions.size();
+    }
+
+    /**
+     * @return The number of chunks with at least one queued position.
+     */
+    public int chunks()
+    {
+        return buckets.size();
+    }
+
+    /**
+     * @return The total number of positions which were not added, as they were already queued.
+     */
+    public long duplicates()
+    {
+        return duplicates;
+    }
+
+    public long[] toLongArray()
+    {
+        flush();
+        final long[] positions = new long[size];
+        final int[] index = {0};
+        forEach(pos -> positions[index[0]++] = pos);
+        return positions;
+    }
+
+    public void clear()
+    {
+        buckets.clear();
+        pendingPositions.clear();
+        pendingDueTicks.clear();
+        size = 0;
+    }
+
+    private void flush()
+    {
+        for (int i = 0; i < pendingPositions.size(); i++)
+        {
+            add(pendingPositions.getLong(i), pendingDueTicks.getLong(i));
+        }
+        pendingPositions.clear();
+        pendingDueTicks.clear();
+    }
+}
@@ -6,39 +6,83 @@
 
 package net.dries007.tfc.util.tracker;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
-
-import net.minecraft.nbt.CompoundTag;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
 
+/**
+ * A collapse in progress, which is processed in waves. Each wave is the set of positions which may collapse, and positions above any that did
+ * collapse form the next wave. Positions are packed with {@link BlockPos#asLong()}.
+ */
 public class Collapse
 {
     BlockPos centerPos;
-    List<BlockPos> nextPositions;
+    LongOpenHashSet nextPositions;
+    LongOpenHashSet pendingPositions;
     double radiusSquared;
 
+    /**
+     * If {@code true}, the current wave is the initial wave of a collapse started by {@link net.dries007.tfc.common.recipes.CollapseRecipe#startCollapse}.
+     * Those positions have already been chosen, and will collapse unconditionally, breaking the block below them if needed.
+     */
+    boolean initial;
+    long nextWaveTick;
+
     public Collapse(BlockPos centerPos, List<BlockPos> nextPositions, double radiusSquared)
+    {
+        this(centerPos, toPackedSet(nextPositions), radiusSquared, false);
+    }
+
+    public Collapse(BlockPos centerPos, LongOpenHashSet nextPositions, double radiusSquared, boolean initial)
     {
         this.centerPos = centerPos;
         this.nextPositions = nextPositions;
+        this.pendingPositions = new LongOpenHashSet();
         this.radiusSquared = radiusSquared;
+        this.initial = initial;
     }
 
     public Collapse(CompoundTag nbt)
     {
         centerPos = BlockPos.of(nbt.getLong("centerPos"));
-        nextPositions = Arrays.stream(nbt.getLongArray("nextPositions")).mapToObj(BlockPos::of).collect(Collectors.toList());
+        nextPositions = new LongOpenHashSet(nbt.getLongArray("nextPositions"));
+        pendingPositions = new LongOpenHashSet(nbt.getLongArray("pendingPositions"));
         radiusSquared = nbt.getDouble("radiusSquared");
+        initial = nbt.getBoolean("initial");
+    }
+
+    public List<BlockPos> getNextPositions()
+    {
+        return nextPositions.longStream().mapToObj(BlockPos::of).toList();
+    }
+
+    /**
+     * @return {@code true} if there are no positions left in this collapse.
+     */
+    public boolean isDone()
+    {
+        return nextPositions.isEmpty() && pendingPositions.isEmpty();
     }
 
     public CompoundTag serializeNBT()
     {
         CompoundTag nbt = new CompoundTag();
         nbt.putLong("centerPos", centerPos.asLong());
-        nbt.putLongArray("nextPositions", nextPositions.stream().mapToLong(BlockPos::asLong).toArray());
+        nbt.putLongArray("nextPositions", nextPositions.toLongArray());
+        nbt.putLongArray("pendingPositions", pendingPositions.toLongArray());
         nbt.putDouble("radiusSquared", radiusSquared);
+        nbt.putBoolean("initial", initial);
         return nbt;
     }
-}
\ No newline at end of file
+
+    private static LongOpenHashSet toPackedSet(List<BlockPos> positions)
+    {
+        final LongOpenHashSet packed = new LongOpenHashSet(positions.size());
+        for (BlockPos pos : positions)
+        {
+            packed.add(pos.asLong());
+        }
+        return packed;
+    }
+}
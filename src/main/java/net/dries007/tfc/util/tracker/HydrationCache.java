@@ -0,0 +1,158 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.common.TFCTags;
+import net.dries007.tfc.common.blocks.soil.FarmlandBlock;
+import net.dries007.tfc.util.Helpers;
+
+/**
+ * A per-chunk cache of farmland hydration, which otherwise requires a scan of a 9x9x2 area for water each time it is queried. Each entry
+ * stores the hydration, and the offset to the water that contributed to it, if any.
+ * <ul>
+ *     <li>Removing water is detected when an entry is read, by checking the water it depends on is still present.</li>
+ *     <li>Adding water is detected by {@link #onBlockChanged(BlockPos, BlockState)}, which invalidates all entries in range of the new water.</li>
+ *     <li>Entries are dropped when their chunk is unloaded, or when the block at their position is changed.</li>
+ * </ul>
+ * This is server only, and must only be accessed from the server thread.
+ */
+public final class HydrationCache
+{
+    private static final int MISSING = -1;
+    private static final int NO_WATER = 0xFF;
+    private static final int RANGE_XZ = 4; // The range water is searched for, see FarmlandBlock#findNearestWater()
+
+    private final Long2ObjectOpenHashMap<Long2IntOpenHashMap> chunks = new Long2ObjectOpenHashMap<>();
+
+    private long hits;
+    private long misses;
+
+    public int getHydration(ServerLevel level, BlockPos pos)
+    {
+        final long key = pos.asLong();
+        final long chunkKey = ChunkPos.asLong(pos);
+
+        Long2IntOpenHashMap entries = chunks.get(chunkKey);
+        if (entries != null)
+        {
+            final int entry = entries.get(key);
+            if (entry != MISSING && isWaterPresent(level, pos, entry >> 8))
+            {
+                hits++;
+                return entry & 0xFF;
+            }
+        }
+
+        misses++;
+        final @Nullable BlockPos waterPos = FarmlandBlock.findNearestWater(level, pos);
+        final int hydration = FarmlandBlock.getHydration(level, pos, waterPos);
+        if (level.isLoaded(pos))
+        {
+            if (entries == null)
+            {
+                entries = new Long2IntOpenHashMap();
+                entries.defaultReturnValue(MISSING);
+                chunks.put(chunkKey, entries);
+            }
+            entries.put(key, hydration | (waterPos == null ? NO_WATER : packOffset(waterPos, pos)) << 8);
+        }
+        return hydration;
+    }
+
+    /**
+     * Called when a block is changed in the level. If the new block contains a hydrating fluid, this invalidates every entry that may now be
+     * closer to water. Otherwise, only an entry at this position is dropped, in case farmland was removed.
+     */
+    public void onBlockChanged(BlockPos pos, BlockState state)
+    {
+        if (chunks.isEmpty())
+        {
+            return;
+        }
+        if (!Helpers.isFluid(state.getFluidState(), TFCTags.Fluids.HYDRATING))
+        {
+            remove(pos.asLong());
+            return;
+        }
+
+        // Farmland at y checks for water at y - 1, y and y + 1
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (int dx = -RANGE_XZ; dx <= RANGE_XZ; dx++)
+        {
+            for (int dz = -RANGE_XZ; dz <= RANGE_XZ; dz++)
+            {
+                for (int dy = -1; dy <= 1; dy++)
+                {
+                    remove(cursor.setWithOffset(pos, dx, dy, dz).asLong());
+                }
+            }
+        }
+    }
+
+    public void onChunkUnloaded(ChunkPos pos)
+    {
+        chunks.remove(pos.toLong());
+    }
+
+    public Stats getStats()
+    {
+        int entries = 0;
+        for (Long2IntOpenHashMap chunk : chunks.values())
+        {
+            entries += chunk.size();
+        }
+        return new Stats(entries, chunks.size(), hits, misses);
+    }
+
+    private void remove(long pos)
+    {
+        final long chunkKey = ChunkPos.asLong(BlockPos.getX(pos) >> 4, BlockPos.getZ(pos) >> 4);
+        final Long2IntOpenHashMap entries = chunks.get(chunkKey);
+        if (entries != null)
+        {
+            entries.remove(pos);
+            if (entries.isEmpty())
+            {
+                chunks.remove(chunkKey);
+            }
+        }
+    }
+
+    private boolean isWaterPresent(ServerLevel level, BlockPos pos, int offset)
+    {
+        if (offset == NO_WATER)
+        {
+            return true; // Any water placed in range since would've invalidated this entry
+        }
+        final int dy = offset / 81 - 1, dx = (offset / 9) % 9 - RANGE_XZ, dz = offset % 9 - RANGE_XZ;
+        return Helpers.isFluid(level.getFluidState(pos.offset(dx, dy, dz)), TFCTags.Fluids.HYDRATING);
+    }
+
+    /**
+     * Packs the offset from {@code pos} to {@code waterPos}, which is at most {@link #RANGE_XZ} horizontally, and one vertically, into a
+     * value in [0, 243), which fits in a byte.
+     */
+    private static int packOffset(BlockPos waterPos, BlockPos pos)
+    {
+        final int dx = waterPos.getX() - pos.getX(), dy = waterPos.getY() - pos.getY(), dz = waterPos.getZ() - pos.getZ();
+        return ((dy + 1) * 9 + (dx + RANGE_XZ)) * 9 + (dz + RANGE_XZ);
+    }
+
+    /**
+     * @param hits The total number of queries answered from the cache
+     * @param misses The total number of queries which required a scan for water
+     */
+    public record Stats(int entries, int chunks, long hits, long misses) {}
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import java.util.function.LongPredicate;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongLists;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.ai.village.poi.PoiManager;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.common.blocks.TFCBlocks;
+import net.dries007.tfc.common.entities.ai.TFCBrain;
+import net.dries007.tfc.util.Helpers;
+
+/**
+ * A level-wide index of nest box positions, per chunk, along with which nest boxes have been claimed by an animal. This replaces a scan of
+ * the {@link PoiManager} by each individual animal, and means animals can pick the nearest free nest box, and only need to path to that one.
+ * <ul>
+ *     <li>Chunks are indexed lazily from the {@link PoiManager}, when first queried, and only if they are loaded.</li>
+ *     <li>Once indexed, chunks are kept up to date by {@link #onNestBoxChanged(BlockPos, boolean)}, and dropped when the chunk is unloaded.</li>
+ *     <li>Claims expire after {@link #CLAIM_TICKS}, unless renewed, so a claim by an animal which has since died or wandered off is released.</li>
+ * </ul>
+ * This is server only, and must only be accessed from the server thread.
+ */
+public final class NestBoxIndex
+{
+    public static final int SEARCH_RADIUS = 48;
+    public static final int CLAIM_TICKS = 200;
+
+    private static final int SEARCH_CHUNK_RADIUS = (SEARCH_RADIUS + 15) >> 4;
+
+    private final Long2ObjectOpenHashMap<LongList> chunks = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<Claim> claims = new Long2ObjectOpenHashMap<>();
+
+    private long searches;
+    private long paths;
+    private long failedPaths;
+    private long sensorNanos;
+
+    /**
+     * Finds the nearest nest box to {@code entity}, which is not claimed by another entity, within {@link #SEARCH_RADIUS}. Chunks are searched
+     * in rings outward from the entity, stopping once no closer nest box can exist.
+     *
+     * @param exclude A predicate for (packed) positions which should be skipped, i.e. nest boxes which could not be reached.
+     */
+    @Nullable
+    public BlockPos findNearestFree(ServerLevel level, Entity entity, LongPredicate exclude)
+    {
+        searches++;
+
+        final BlockPos origin = entity.blockPosition();
+        final int chunkX = SectionPos.blockToSectionCoord(origin.getX()), chunkZ = SectionPos.blockToSectionCoord(origin.getZ());
+        final long gameTime = level.getGameTime();
+
+        long bestPos = 0;
+        double bestDistance = Double.MAX_VALUE;
+        boolean found = false;
+
+        for (int ring = 0; ring <= SEARCH_CHUNK_RADIUS; ring++)
+        {
+            for (int dx = -ring; dx <= ring; dx++)
+            {
+                for (int dz = -ring; dz <= ring; dz++)
+                {
+                    if (Math.max(Math.abs(dx), Math.abs(dz)) != ring)
+                    {
+                        continue; // Only the outer edge of each ring
+                    }
+                    final LongList nests = getOrIndex(level, chunkX + dx, chunkZ + dz);
+                    for (int i = 0; i < nests.size(); i++)
+                    {
+                        final long pos = nests.getLong(i);
+                        final double distance = origin.distToCenterSqr(BlockPos.getX(pos), BlockPos.getY(pos), BlockPos.getZ(pos));
+                        if (distance < bestDistance && distance <= SEARCH_RADIUS * SEARCH_RADIUS && !exclude.test(pos) && !isClaimedByOther(pos, entity, gameTime))
+                        {
+                            bestPos = pos;
+                            bestDistance = distance;
+                            found = true;
+                        }
+                    }
+                }
+            }
+
+            // Any nest box in the next ring is at least this many blocks away, so if we found one closer, we can stop
+            final int nextRingDistance = ring * 16;
+            if (found && bestDistance <= nextRingDistance * nextRingDistance)
+            {
+                break;
+            }
+        }
+
+        if (!found)
+        {
+            return null;
+        }
+
+        final BlockPos pos = BlockPos.of(bestPos);
+        if (!Helpers.isBlock(level.getBlockState(pos), TFCBlocks.NEST_BOX.get()))
+        {
+            // Stale, this nest box was removed without a block update, so remove it and try again
+            onNestBoxChanged(pos, false);
+            return findNearestFree(level, entity, exclude);
+        }
+        return pos;
+    }
+
+    /**
+     * Claims a nest box for {@code entity}, or renews an existing claim.
+     */
+    public void claim(BlockPos pos, Entity entity, long gameTime)
+    {
+        claims.put(pos.asLong(), new Claim(entity.getId(), gameTime + CLAIM_TICKS));
+    }
+
+    /**
+     * Releases a claim on a nest box, if it is held by {@code entity}.
+     */
+    public void release(BlockPos pos, Entity entity)
+    {
+        final Claim claim = claims.get(pos.asLong());
+        if (claim != null && claim.entityId == entity.getId())
+        {
+            claims.remove(pos.asLong());
+        }
+    }
+
+    /**
+     * Updates the index when a nest box is placed or removed, if the containing chunk has already been indexed.
+     */
+    public void onNestBoxChanged(BlockPos pos, boolean added)
+    {
+        final long packedPos = pos.asLong();
+        final LongList nests = chunks.get(ChunkPos.asLong(pos));
+        if (nests != null)
+        {
+            nests.rem(packedPos);
+            if (added)
+            {
+                nests.add(packedPos);
+            }
+        }
+        if (!added)
+        {
+            claims.remove(packedPos);
+        }
+    }
+
+    /**
+     * Drops the indexed nest boxes, and any claims, in a chunk when the chunk is unloaded.
+     */
+    public void onChunkUnloaded(ChunkPos pos)
+    {
+        final LongList nests = chunks.remove(pos.toLong());
+        if (nests != null)
+        {
+            for (int i = 0; i < nests.size(); i++)
+            {
+                claims.remove(nests.getLong(i));
+            }
+        }
+    }
+
+    /**
+     * Records the cost of a single sensor tick, which searched for a nest box.
+     *
+     * @param pathed {@code true} if a path was computed to a candidate nest box
+     * @param reached {@code true} if that path could reach the nest box
+     */
+    public void recordSensorTick(long nanos, boolean pathed, boolean reached)
+    {
+        sensorNanos += nanos;
+        if (pathed)
+        {
+            paths++;
+            if (!reached)
+            {
+                failedPaths++;
+            }
+        }
+    }
+
+    public Stats getStats()
+    {
+        int nests = 0;
+        for (LongList chunk : chunks.values())
+        {
+            nests += chunk.size();
+        }
+        return new Stats(chunks.size(), nests, claims.size(), searches, paths, failedPaths, sensorNanos);
+    }
+
+    private boolean isClaimedByOther(long pos, Entity entity, long gameTime)
+    {
+        final Claim claim = claims.get(pos);
+        if (claim == null)
+        {
+            return false;
+        }
+        if (claim.expiresAt < gameTime)
+        {
+            claims.remove(pos);
+            return false;
+        }
+        return claim.entityId != entity.getId();
+    }
+
+    private LongList getOrIndex(ServerLevel level, int chunkX, int chunkZ)
+    {
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        LongList nests = chunks.get(key);
+        if (nests == null)
+        {
+            if (!level.hasChunk(chunkX, chunkZ))
+            {
+                return LongLists.emptyList(); // Don't load chunks just to search them, and don't cache this, as it might be loaded later
+            }
+
+            final ChunkPos chunkPos = new ChunkPos(chunkX, chunkZ);
+            final PoiManager manager = level.getPoiManager();
+            final LongList indexed = new LongArrayList();
+
+            manager.ensureLoadedAndValid(level, chunkPos.getWorldPosition(), 0);
+            manager.getInChunk(type -> type.value() == TFCBrain.NEST_BOX_POI.get(), chunkPos, PoiManager.Occupancy.ANY)
+                .forEach(record -> indexed.add(record.getPos().asLong()));
+
+            nests = indexed;
+            chunks.put(key, nests);
+        }
+        return nests;
+    }
+
+    /**
+     * @param searches The total number of searches for a nest box
+     * @param paths The total number of paths computed to a candidate nest box
+     * @param failedPaths The total number of paths which could not reach the candidate nest box
+     * @param sensorNanos The total time spent in nest box sensors
+     */
+    public record Stats(int chunks, int nests, int claims, long searches, long paths, long failedPaths, long sensorNanos) {}
+
+    record Claim(int entityId, long expiresAt) {}
+}
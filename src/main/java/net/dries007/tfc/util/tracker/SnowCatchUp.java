@@ -0,0 +1,118 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+
+import net.dries007.tfc.util.calendar.Calendars;
+import net.dries007.tfc.util.calendar.ICalendar;
+import net.dries007.tfc.util.climate.ClimateModel;
+import net.dries007.tfc.util.climate.OverworldClimateModel;
+
+/**
+ * Computes the net change in snow for chunks which are catching up on missed weather, see {@link WeatherHelpers#onTickChunk}.
+ * <p>
+ * When a player enters a long-unvisited area, every chunk that starts ticking needs to simulate up to {@link WeatherHelpers#MAX_CATCH_UP_TICKS}
+ * of missed weather, which is an hour by hour query of the climate model. However, the result only depends on the elapsed interval, and the
+ * climate of the chunk, which is near identical for neighboring chunks. So, the catch-up interval is aligned to calendar hours, and results are
+ * shared between all chunks with the same (rounded) climate within that interval. The rain at each hour is position independent, and is
+ * additionally shared between all intervals.
+ * <p>
+ * Sharing by climate relies on the hourly temperature only depending on the average temperature, elevation and latitude, which is true for
+ * {@link OverworldClimateModel}. Other climate models may vary temperature in other ways, so for those, results are only shared within a small
+ * region of nearby chunks.
+ * <p>
+ * This is only accessed from the server thread, and is not persisted. Results are discarded whenever the current calendar hour changes.
+ */
+public final class SnowCatchUp
+{
+    private final Object2IntOpenHashMap<Key> netChanges = new Object2IntOpenHashMap<>();
+    private final Long2FloatOpenHashMap rainByHour = new Long2FloatOpenHashMap();
+    private long currentHour = Long.MIN_VALUE;
+
+    /**
+     * @param surfacePos A position on the surface of the chunk
+     * @param rainfall The current rainfall at {@code surfacePos}
+     * @param timeSinceTick The number of ticks since this chunk last simulated weather
+     * @return The net change in snow, where {@code > 0} indicates accumulation, and {@code < 0} indicates melting.
+     */
+    public int getNetChangeInSnow(ServerLevel level, ClimateModel model, BlockPos surfacePos, float rainfall, long timeSinceTick)
+    {
+        final long currentCalendarTick = Calendars.SERVER.getCalendarTicks();
+        final long endHour = Math.floorDiv(currentCalendarTick, ICalendar.CALENDAR_TICKS_IN_HOUR);
+        final long startHour = Math.floorDiv(currentCalendarTick - Math.min(WeatherHelpers.MAX_CATCH_UP_TICKS, timeSinceTick), ICalendar.CALENDAR_TICKS_IN_HOUR);
+
+        if (endHour != currentHour)
+        {
+            final long oldestHour = endHour - WeatherHelpers.MAX_CATCH_UP_TICKS / ICalendar.CALENDAR_TICKS_IN_HOUR;
+
+            currentHour = endHour;
+            netChanges.clear();
+            rainByHour.keySet().removeIf(hour -> hour < oldestHour);
+        }
+
+        // Temperature is bucketed to 0.5 C, elevation to 2 blocks (~0.3 C), latitude to 64 blocks, and rainfall to 10mm
+        // For other climate models, results are additionally only shared within the same 4x4 chunk region
+        final Key key = new Key(
+            startHour,
+            model.getClass() == OverworldClimateModel.class ? 0 : ChunkPos.asLong(surfacePos.getX() >> 6, surfacePos.getZ() >> 6),
+            Math.round(model.getAverageTemperature(level, surfacePos) * 2f),
+            surfacePos.getY() >> 1,
+            surfacePos.getZ() >> 6,
+            Math.round(rainfall / 10f)
+        );
+
+        if (netChanges.containsKey(key))
+        {
+            return netChanges.getInt(key);
+        }
+
+        final int netChange = simulate(level, model, surfacePos, rainfall, startHour, endHour);
+        netChanges.put(key, netChange);
+        return netChange;
+    }
+
+    private int simulate(ServerLevel level, ClimateModel model, BlockPos surfacePos, float rainfall, long startHour, long endHour)
+    {
+        final int daysInMonth = Calendars.SERVER.getCalendarDaysInMonth();
+
+        int netChangeInSnow = 0;
+        for (long hour = startHour + 1; hour <= endHour; hour++)
+        {
+            final long calendarTick = hour * ICalendar.CALENDAR_TICKS_IN_HOUR;
+            final float estimatedTemperature = model.getTemperature(level, surfacePos, calendarTick, daysInMonth);
+            if (estimatedTemperature > 2f)
+            {
+                netChangeInSnow -= WeatherHelpers.UPDATES_PER_SNOW_MELT_HOUR;
+            }
+            else if (estimatedTemperature < -2f && WeatherHelpers.isPrecipitating(getRain(model, hour), rainfall))
+            {
+                netChangeInSnow += WeatherHelpers.UPDATES_PER_SNOW_ACCUMULATION_HOUR;
+            }
+            netChangeInSnow = Mth.clamp(netChangeInSnow, -WeatherHelpers.MAX_UPDATES_PER_TICK, WeatherHelpers.MAX_UPDATES_PER_TICK);
+        }
+        return netChangeInSnow;
+    }
+
+    private float getRain(ClimateModel model, long hour)
+    {
+        if (rainByHour.containsKey(hour))
+        {
+            return rainByHour.get(hour);
+        }
+        final float rain = model.getRain(hour * ICalendar.CALENDAR_TICKS_IN_HOUR);
+        rainByHour.put(hour, rain);
+        return rain;
+    }
+
+    record Key(long startHour, long region, int temperature, int y, int z, int rainfall) {}
+}
@@ -46,7 +46,6 @@ import net.dries007.tfc.mixin.accessor.SectionStorageAccessor;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.climate.ClimateModel;
-import net.dries007.tfc.world.chunkdata.ChunkData;
 
 /**
  * Handler for custom weather and weather effects.
@@ -63,11 +62,18 @@ public final class WeatherHelpers
 
     // For fast forwarding, the number of "fast-forward" ticks that should be simulated for a given hour of either estimated
     // melting, or estimated snow accumulation.
-    private static final int UPDATES_PER_SNOW_MELT_HOUR = 1 + 1_000 / TICKS_PER_SNOW_MELT;
-    private static final int UPDATES_PER_SNOW_ACCUMULATION_HOUR = 1 + 1_000 / TICKS_PER_SNOW_ACCUMULATION;
+    static final int UPDATES_PER_SNOW_MELT_HOUR = 1 + 1_000 / TICKS_PER_SNOW_MELT;
+    static final int UPDATES_PER_SNOW_ACCUMULATION_HOUR = 1 + 1_000 / TICKS_PER_SNOW_ACCUMULATION;
 
     // The maximum number of single tick updates that can be scheduled to happen
-    private static final int MAX_UPDATES_PER_TICK = 48;
+    static final int MAX_UPDATES_PER_TICK = 48;
+
+    // The maximum amount of snow (or ice or icicles) in a chunk, which catch-up accumulation will not exceed
+    private static final int MAX_SNOW_PER_CHUNK = 64;
+
+    // The maximum number of ticks that are simulated when catching up, and the minimum number of ticks which trigger a catch-up
+    static final int MAX_CATCH_UP_TICKS = 48_000;
+    static final int MIN_CATCH_UP_TICKS = 1_000;
 
     /**
      * Replaces a call to {@link Biome#getPrecipitationAt(BlockPos)} with one that is aware of both the local climate,
@@ -209,47 +215,24 @@ public final class WeatherHelpers
             return; // Don't handle with climate models that don't support simulation rain
         }
 
-        final ChunkData data = ChunkData.get(chunk);
+        final ChunkPos chunkPos = chunk.getPos();
         final long currentTick = Calendars.SERVER.getTicks();
         final long currentCalendarTick = Calendars.SERVER.getCalendarTicks();
-        final long timeSinceTick = currentTick - data.getLastRandomTick();
+        final long timeSinceTick = currentTick - tracker.getLastWeatherTick(chunkPos);
 
-        final ChunkPos chunkPos = chunk.getPos();
         final BlockPos surfacePos = getRandomSurfacePos(level, chunkPos);
         final float rainfall = model.getRainfall(level, surfacePos);
 
-        if (timeSinceTick > 1_000)
+        if (timeSinceTick > MIN_CATCH_UP_TICKS)
         {
             // We have not ticked this chunk in a short while, so run catch-up ticks to see if we missed anything
-            // First, we need to check for what we might've missed
-            final int daysInMonth = Calendars.SERVER.getCalendarDaysInMonth();
-
-            long calendarTick = currentCalendarTick - Math.min(48_000, timeSinceTick);
-            int netChangeInSnow = 0; // >0 indicates melting, <0 indicates freezing
-
-            while (calendarTick < currentCalendarTick)
-            {
-                calendarTick += 1_000;
-                final float estimatedTemperature = model.getTemperature(level, surfacePos, calendarTick, daysInMonth);
-                if (estimatedTemperature > 2f)
-                {
-                    netChangeInSnow = Math.max(netChangeInSnow - UPDATES_PER_SNOW_MELT_HOUR, -MAX_UPDATES_PER_TICK);
-                }
-                else if (estimatedTemperature < -2f && isPrecipitating(model.getRain(calendarTick), rainfall))
-                {
-                    netChangeInSnow = Math.min(netChangeInSnow + UPDATES_PER_SNOW_ACCUMULATION_HOUR, MAX_UPDATES_PER_TICK);
-                }
-            }
-
+            // The net change is shared between nearby chunks with a similar climate, which are likely to be catching up at the same time
+            final int netChangeInSnow = tracker.getSnowCatchUp().getNetChangeInSnow(level, model, surfacePos, rainfall, timeSinceTick);
             if (netChangeInSnow > 0)
             {
                 // First, if we're performing a large number of updates, we want to first count the amount of snow in the chunk,
                 // and only do updates if it's between a threshold
-                netChangeInSnow = Math.min(64 - countExistingSnowInChunk(level, chunkPos), netChangeInSnow);
-                for (int i = 0; i < netChangeInSnow; i++)
-                {
-                    handleSnowAccumulation(level, getRandomSurfacePos(level, chunkPos));
-                }
+                handleSnowAccumulation(level, chunk, Math.min(MAX_SNOW_PER_CHUNK - countExistingSnowInChunk(level, chunkPos), netChangeInSnow));
             }
             else if (netChangeInSnow < 0)
             {
@@ -272,7 +255,7 @@ public final class WeatherHelpers
             }
         }
 
-        data.setLastRandomTick(chunk, currentTick);
+        tracker.setLastWeatherTick(chunkPos, currentTick); // Tracked per level, as this changes every tick, and would otherwise dirty every ticking chunk
     }
 
     private static BlockPos getRandomSurfacePos(ServerLevel level, ChunkPos chunkPos)
@@ -292,6 +275,10 @@ public final class WeatherHelpers
             if (objects != null)
             {
                 total += objects.size();
+                if (total >= MAX_SNOW_PER_CHUNK)
+                {
+                    break; // No need to load or count any more sections, as we won't accumulate any more snow
+                }
             }
         }
         return total;
@@ -358,6 +345,37 @@ public final class WeatherHelpers
             : null;
     }
 
+    /**
+     * Handles up to {@code amount} snow accumulation events in a chunk, at distinct, randomly chosen, surface positions. The surface is read
+     * from the chunk's heightmap in a single pass, rather than querying the level for a random surface position for each event.
+     */
+    private static void handleSnowAccumulation(ServerLevel level, ChunkAccess chunk, int amount)
+    {
+        if (amount <= 0)
+        {
+            return;
+        }
+
+        final Heightmap heightmap = chunk.getOrCreateHeightmapUnprimed(Heightmap.Types.MOTION_BLOCKING);
+        final int[] columns = new int[16 * 16];
+        for (int i = 0; i < columns.length; i++)
+        {
+            columns[i] = i;
+        }
+
+        final int minX = chunk.getPos().getMinBlockX(), minZ = chunk.getPos().getMinBlockZ();
+        for (int i = 0; i < Math.min(amount, columns.length); i++)
+        {
+            // Partial Fisher-Yates shuffle, so each event is in a distinct column
+            final int j = i + level.random.nextInt(columns.length - i);
+            final int column = columns[j];
+            columns[j] = columns[i];
+
+            final int x = column & 15, z = column >> 4;
+            handleSnowAccumulation(level, new BlockPos(minX + x, heightmap.getFirstAvailable(x, z), minZ + z));
+        }
+    }
+
     private static void handleSnowAccumulation(ServerLevel level, BlockPos surfacePos)
     {
         // Handle smoother snow placement: if there's an adjacent position with less snow, switch to that position instead
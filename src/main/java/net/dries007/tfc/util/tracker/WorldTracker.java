@@ -7,24 +7,24 @@
 package net.dries007.tfc.util.tracker;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
-import java.util.Set;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
-import net.minecraft.nbt.LongArrayTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.state.BlockState;
@@ -37,6 +37,7 @@ import org.jetbrains.annotations.Nullable;
 import net.dries007.tfc.client.TFCSounds;
 import net.dries007.tfc.common.TFCAttachments;
 import net.dries007.tfc.common.TFCTags;
+import net.dries007.tfc.common.entities.ai.NearbyEntityIndex;
 import net.dries007.tfc.common.entities.misc.TFCFallingBlockEntity;
 import net.dries007.tfc.common.recipes.CollapseRecipe;
 import net.dries007.tfc.common.recipes.LandslideRecipe;
@@ -46,13 +47,16 @@ import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.climate.BiomeBasedClimateModel;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateModel;
-import net.dries007.tfc.util.collections.BufferedList;
+import net.dries007.tfc.util.data.SupportIndex;
 import net.dries007.tfc.util.events.CollapseEvent;
 import net.dries007.tfc.util.loot.TFCLoot;
 import net.dries007.tfc.util.rotation.RotationNetworkManager;
 
 public final class WorldTracker
 {
+    private static final int LANDSLIDE_DELAY_TICKS = 2;
+    private static final int COLLAPSE_WAVE_DELAY_TICKS = 19; // Waves are on average 10 ticks apart
+
     /**
      * Returns the world tracker for a given world. Note that we always expect <strong>every world</strong> to have a tracker attached, and thus this will throw
      * if the tracker does not exist. The world tracker exists on both client and server worlds, although it may be in various states of valid in client worlds.
@@ -68,40 +72,53 @@ public final class WorldTracker
     private final Level level;
     private final RandomSource random;
 
-    private final BufferedList<TickEntry> landslideTicks = new BufferedList<>();
-    private final BufferedList<BlockPos> isolatedPositions = new BufferedList<>();
+    private final ChunkPosQueue landslidePositions = new ChunkPosQueue();
+    private final ChunkPosQueue isolatedPositions = new ChunkPosQueue();
     private final List<Collapse> collapsesInProgress = new ArrayList<>();
+    private final Long2LongOpenHashMap lastWeatherTicks = new Long2LongOpenHashMap(); // Chunk pos -> last tick, see WeatherHelpers.onTickChunk()
 
     private final RotationNetworkManager rotationManager = new RotationNetworkManager();
+    private final SupportIndex supportIndex;
+    private final NestBoxIndex nestBoxIndex = new NestBoxIndex();
+    private final HydrationCache hydrationCache = new HydrationCache();
+    private final NearbyEntityIndex nearbyEntityIndex = new NearbyEntityIndex();
+    private SnowCatchUp snowCatchUp = new SnowCatchUp();
 
     private ClimateModel climateModel = BiomeBasedClimateModel.INSTANCE;
     private boolean weatherEnabled = true;
 
+    private int processedLastTick;
+    private long nanosLastTick;
+    private long ticksOverBudget;
+
     public WorldTracker(Level level)
     {
         this.level = level;
         this.random = new XoroshiroRandomSource(RandomSupport.generateUniqueSeed());
+        this.lastWeatherTicks.defaultReturnValue(-1);
+        this.supportIndex = new SupportIndex(level);
     }
 
     public void addLandslidePos(BlockPos pos)
     {
-        landslideTicks.add(new TickEntry(pos, 2));
+        landslidePositions.add(pos.asLong(), level.getGameTime() + LANDSLIDE_DELAY_TICKS);
     }
 
     public void addIsolatedPos(BlockPos pos)
     {
-        isolatedPositions.add(pos);
+        isolatedPositions.add(pos.asLong(), level.getGameTime());
     }
 
     public void addCollapseData(Collapse collapse)
     {
         collapsesInProgress.add(collapse);
-        NeoForge.EVENT_BUS.post(new CollapseEvent(level, collapse.centerPos, collapse.nextPositions, collapse.radiusSquared, false));
+        NeoForge.EVENT_BUS.post(new CollapseEvent(level, collapse.centerPos, collapse.getNextPositions(), collapse.radiusSquared, false));
     }
 
     public void setClimateModel(ClimateModel climateModel)
     {
         this.climateModel = climateModel;
+        this.snowCatchUp = new SnowCatchUp(); // Computed from the previous climate model
     }
 
     public ClimateModel getClimateModel()
@@ -138,6 +155,69 @@ public final class WorldTracker
         this.weatherEnabled = weatherEnabled;
     }
 
+    /**
+     * @return The last tick that weather was simulated in the chunk at {@code pos}, or {@code -1} if it has not been simulated recently.
+     */
+    public long getLastWeatherTick(ChunkPos pos)
+    {
+        return lastWeatherTicks.get(pos.toLong());
+    }
+
+    /**
+     * Records the last tick that weather was simulated in a chunk. This is tracked here, rather than in {@link net.dries007.tfc.world.chunkdata.ChunkData},
+     * as it is updated every tick for every ticking chunk, and storing it in the chunk would require re-saving every ticking chunk on every autosave.
+     */
+    public void setLastWeatherTick(ChunkPos pos, long tick)
+    {
+        lastWeatherTicks.put(pos.toLong(), tick);
+    }
+
+    public SnowCatchUp getSnowCatchUp()
+    {
+        return snowCatchUp;
+    }
+
+    /**
+     * @return A snapshot of the current queued work, and how much work was done in the last tick.
+     */
+    public QueueStats getQueueStats()
+    {
+        int collapsePositions = 0;
+        for (Collapse collapse : collapsesInProgress)
+        {
+            collapsePositions += collapse.nextPositions.size();
+        }
+        return new QueueStats(
+            landslidePositions.size(), landslidePositions.chunks(), landslidePositions.duplicates(),
+            isolatedPositions.size(), isolatedPositions.chunks(), isolatedPositions.duplicates(),
+            collapsesInProgress.size(), collapsePositions,
+            processedLastTick, nanosLastTick, ticksOverBudget
+        );
+    }
+
+    public SupportIndex getSupportIndex()
+    {
+        return supportIndex;
+    }
+
+    public NestBoxIndex getNestBoxIndex()
+    {
+        return nestBoxIndex;
+    }
+
+    public HydrationCache getHydrationCache()
+    {
+        return hydrationCache;
+    }
+
+    /**
+     * Prefer {@link NearbyEntityIndex#get(ServerLevel)}, which ensures the index is up to date.
+     */
+    public NearbyEntityIndex getNearbyEntityIndex()
+    {
+        return nearbyEntityIndex;
+    }
+
     public RotationNetworkManager getRotationManager()
     {
         return rotationManager;
@@ -148,80 +228,114 @@ public final class WorldTracker
      */
     public void tick()
     {
-        if (!collapsesInProgress.isEmpty() && random.nextInt(10) == 0)
+        // All work here is done within a time budget, and any work that doesn't fit is carried over to the next tick
+        final long startNanos = System.nanoTime();
+        final long deadlineNanos = startNanos + (long) (TFCConfig.SERVER.worldTrackerTickBudget.get() * 1_000_000);
+        final long gameTime = level.getGameTime();
+
+        int processed = 0;
+        if (!collapsesInProgress.isEmpty())
+        {
+            processed += tickCollapses(gameTime, deadlineNanos);
+        }
+
+        processed += landslidePositions.process(gameTime, deadlineNanos, packedPos -> {
+            final BlockPos pos = BlockPos.of(packedPos);
+            LandslideRecipe.tryLandslide(level, pos, level.getBlockState(pos));
+        });
+
+        processed += isolatedPositions.process(gameTime, deadlineNanos, packedPos -> {
+            final BlockPos pos = BlockPos.of(packedPos);
+            final BlockState currentState = level.getBlockState(pos);
+            if (Helpers.isBlock(currentState.getBlock(), TFCTags.Blocks.BREAKS_WHEN_ISOLATED) && isIsolated(level, pos))
+            {
+                Helpers.destroyBlockAndDropBlocksManually((ServerLevel) level, pos, ctx -> ctx.withParameter(TFCLoot.ISOLATED, true));
+            }
+        });
+
+        processedLastTick = processed;
+        nanosLastTick = System.nanoTime() - startNanos;
+        if (nanosLastTick >= deadlineNanos - startNanos)
+        {
+            ticksOverBudget++;
+        }
+    }
+
+    /**
+     * Processes positions in all collapses, one wave at a time, up to a maximum number of positions per tick. Positions that have not been
+     * processed in this tick are carried over to the next tick. Once the number of falling block entities in a tick exceeds the configured
+     * maximum, further collapsing blocks are moved directly to where they would land.
+     *
+     * @return The number of positions processed.
+     */
+    private int tickCollapses(long gameTime, long deadlineNanos)
+    {
+        final int blockBudget = TFCConfig.SERVER.collapseBlocksPerTick.get();
+        final int maxFallingEntities = TFCConfig.SERVER.collapseMaxFallingEntitiesPerTick.get();
+        final float propagateChance = TFCConfig.SERVER.collapsePropagateChance.get().floatValue();
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        int processed = 0, fallingEntities = 0;
+        for (int i = 0; i < collapsesInProgress.size() && processed < blockBudget; i++)
         {
-            for (Collapse collapse : collapsesInProgress)
+            final Collapse collapse = collapsesInProgress.get(i);
+            if (gameTime < collapse.nextWaveTick)
+            {
+                continue;
+            }
+
+            final LongIterator iterator = collapse.nextPositions.iterator();
+            while (iterator.hasNext() && processed < blockBudget && System.nanoTime() < deadlineNanos)
             {
-                final Set<BlockPos> updatedPositions = new HashSet<>();
-                for (BlockPos posAt : collapse.nextPositions)
+                final long posAt = iterator.nextLong();
+                iterator.remove();
+                processed++;
+
+                // Check the current position for collapsing. Positions in the initial wave have already been chosen to collapse.
+                final BlockState stateAt = level.getBlockState(cursor.set(posAt));
+                if (CollapseRecipe.canCollapse(stateAt) && (collapse.initial || (
+                    cursor.distSqr(collapse.centerPos) < collapse.radiusSquared &&
+                    random.nextFloat() < propagateChance &&
+                    TFCFallingBlockEntity.canFallInDirection(level, cursor, Direction.DOWN))))
                 {
-                    // Check the current position for collapsing
-                    final BlockState stateAt = level.getBlockState(posAt);
-                    if (CollapseRecipe.canCollapse(stateAt) &&
-                        TFCFallingBlockEntity.canFallInDirection(level, posAt, Direction.DOWN) &&
-                        posAt.distSqr(collapse.centerPos) < collapse.radiusSquared &&
-                        random.nextFloat() < TFCConfig.SERVER.collapsePropagateChance.get())
+                    final boolean direct = fallingEntities >= maxFallingEntities;
+                    if (CollapseRecipe.collapseBlock(level, cursor.immutable(), stateAt, collapse.initial, direct))
                     {
-                        if (CollapseRecipe.collapseBlock(level, posAt, stateAt))
+                        // This column has started to collapse. Mark the next block above as unstable for the "follow up"
+                        collapse.pendingPositions.add(BlockPos.offset(posAt, Direction.UP));
+                        if (!direct)
                         {
-                            // This column has started to collapse. Mark the next block above as unstable for the "follow up"
-                            updatedPositions.add(posAt.above());
+                            fallingEntities++;
                         }
                     }
                 }
-                collapse.nextPositions.clear();
-                if (!updatedPositions.isEmpty())
+            }
+
+            if (collapse.nextPositions.isEmpty() && !collapse.pendingPositions.isEmpty())
+            {
+                // This wave is complete, so start the next wave after a short, random, delay
+                if (!collapse.initial)
                 {
                     level.playSound(null, collapse.centerPos, TFCSounds.ROCK_SLIDE_SHORT.get(), SoundSource.BLOCKS, 0.6f, 1.0f);
-                    collapse.nextPositions.addAll(updatedPositions);
                     collapse.radiusSquared *= 0.8; // lower radius each successive time
                 }
-            }
-            collapsesInProgress.removeIf(collapse -> collapse.nextPositions.isEmpty());
-        }
 
-        landslideTicks.flush();
-        Iterator<TickEntry> tickIterator = landslideTicks.listIterator();
-        while (tickIterator.hasNext())
-        {
-            TickEntry entry = tickIterator.next();
-            if (entry.tick())
-            {
-                final BlockState currentState = level.getBlockState(entry.getPos());
-                LandslideRecipe.tryLandslide(level, entry.getPos(), currentState);
-                tickIterator.remove();
+                final LongOpenHashSet nextPositions = collapse.pendingPositions;
+                collapse.pendingPositions = collapse.nextPositions;
+                collapse.nextPositions = nextPositions;
+                collapse.initial = false;
+                collapse.nextWaveTick = gameTime + 1 + random.nextInt(COLLAPSE_WAVE_DELAY_TICKS);
             }
         }
-
-        isolatedPositions.flush();
-        Iterator<BlockPos> isolatedIterator = isolatedPositions.listIterator();
-        while (isolatedIterator.hasNext())
-        {
-            final BlockPos pos = isolatedIterator.next();
-            final BlockState currentState = level.getBlockState(pos);
-            if (Helpers.isBlock(currentState.getBlock(), TFCTags.Blocks.BREAKS_WHEN_ISOLATED) && isIsolated(level, pos))
-            {
-                Helpers.destroyBlockAndDropBlocksManually((ServerLevel) level, pos, ctx -> ctx.withParameter(TFCLoot.ISOLATED, true));
-            }
-            isolatedIterator.remove();
-        }
+        collapsesInProgress.removeIf(Collapse::isDone);
+        return processed;
     }
 
     public CompoundTag serializeNBT()
     {
-        landslideTicks.flush();
-        isolatedPositions.flush();
-
         CompoundTag nbt = new CompoundTag();
-        ListTag landslideNbt = new ListTag();
-        for (TickEntry entry : landslideTicks)
-        {
-            landslideNbt.add(entry.serializeNBT());
-        }
-        nbt.put("landslideTicks", landslideNbt);
-
-        LongArrayTag isolatedNbt = new LongArrayTag(isolatedPositions.stream().mapToLong(BlockPos::asLong).toArray());
-        nbt.put("isolatedPositions", isolatedNbt);
+        nbt.putLongArray("landslidePositions", landslidePositions.toLongArray());
+        nbt.putLongArray("isolatedPositions", isolatedPositions.toLongArray());
 
         ListTag collapseNbt = new ListTag();
         for (Collapse collapse : collapsesInProgress)
@@ -232,6 +346,21 @@ public final class WorldTracker
 
         nbt.putBoolean("weatherEnabled", weatherEnabled);
 
+        // Entries older than the maximum catch-up are equivalent to no entry at all, so they are dropped, to keep this bounded by the recently ticked chunks
+        final long oldestTick = Calendars.SERVER.getTicks() - WeatherHelpers.MAX_CATCH_UP_TICKS;
+        lastWeatherTicks.long2LongEntrySet().removeIf(e -> e.getLongValue() < oldestTick);
+
+        final long[] weatherChunks = new long[lastWeatherTicks.size()], weatherTicks = new long[lastWeatherTicks.size()];
+        int index = 0;
+        for (Long2LongMap.Entry entry : lastWeatherTicks.long2LongEntrySet())
+        {
+            weatherChunks[index] = entry.getLongKey();
+            weatherTicks[index] = entry.getLongValue();
+            index++;
+        }
+        nbt.putLongArray("weatherChunks", weatherChunks);
+        nbt.putLongArray("weatherTicks", weatherTicks);
+
         return nbt;
     }
 
@@ -239,18 +368,27 @@ public final class WorldTracker
     {
         if (nbt != null)
         {
-            landslideTicks.clear();
+            landslidePositions.clear();
             collapsesInProgress.clear();
             isolatedPositions.clear();
 
+            // Queued positions are all due immediately on load
+            for (long pos : nbt.getLongArray("landslidePositions"))
+            {
+                landslidePositions.add(pos, 0);
+            }
+
+            // Landslides used to be saved as a list of tick entries
             ListTag landslideNbt = nbt.getList("landslideTicks", Tag.TAG_COMPOUND);
             for (int i = 0; i < landslideNbt.size(); i++)
             {
-                landslideTicks.add(new TickEntry(landslideNbt.getCompound(i)));
+                landslidePositions.add(new TickEntry(landslideNbt.getCompound(i)).getPos().asLong(), 0);
             }
 
-            long[] isolatedNbt = nbt.getLongArray("isolatedPositions");
-            Arrays.stream(isolatedNbt).mapToObj(BlockPos::of).forEach(isolatedPositions::add);
+            for (long pos : nbt.getLongArray("isolatedPositions"))
+            {
+                isolatedPositions.add(pos, 0);
+            }
 
             ListTag collapseNbt = nbt.getList("collapsesInProgress", Tag.TAG_COMPOUND);
             for (int i = 0; i < collapseNbt.size(); i++)
@@ -259,6 +397,13 @@ public final class WorldTracker
             }
 
             weatherEnabled = nbt.getBoolean("weatherEnabled");
+
+            lastWeatherTicks.clear();
+            final long[] weatherChunks = nbt.getLongArray("weatherChunks"), weatherTicks = nbt.getLongArray("weatherTicks");
+            for (int i = 0; i < Math.min(weatherChunks.length, weatherTicks.length); i++)
+            {
+                lastWeatherTicks.put(weatherChunks[i], weatherTicks[i]);
+            }
         }
     }
 
@@ -274,4 +419,16 @@ public final class WorldTracker
         }
         return true;
     }
-}
\ No newline at end of file
+
+    /**
+     * @param processedLastTick The number of positions processed in the last tick, across all queues
+     * @param nanosLastTick The time spent processing in the last tick
+     * @param ticksOverBudget The number of ticks where work was carried over, as the time budget was exceeded
+     */
+    public record QueueStats(
+        int landslides, int landslideChunks, long landslideDuplicates,
+        int isolated, int isolatedChunks, long isolatedDuplicates,
+        int collapses, int collapsePositions,
+        int processedLastTick, long nanosLastTick, long ticksOverBudget
+    ) {}
+}
@@ -42,7 +42,7 @@ public class ChunkHeightFiller
     protected final double[] riverBlendWeights; // Indexed by RiverBlendType.ordinal
 
     // Shores
-    private final Noise2D shoreSampler;
+    protected final Noise2D shoreSampler;
     protected final int seaLevel;
 
     protected int blockX, blockZ; // Absolute x/z positions
@@ -157,7 +157,7 @@ public class ChunkHeightFiller
             // First, calculate cliff "influence" factor (between 0 = no cliffs, 1.0 = full cliffs)
             // This is computed from a global influence noise, plus a factor from the initial height - higher areas have larger cliff influence
             final double cliffInfluence = Mth.clamp(
-                shoreSampler.noise(blockX, blockZ) + Mth.map(height, seaLevel, seaLevel + 20, 0, 0.6),
+                sampleShoreNoise() + Mth.map(height, seaLevel, seaLevel + 20, 0, 0.6),
                 0.0, 1.0
             );
             final double adjustedCliffInfluence = 1.0 - (1.0 - cliffInfluence) * (1.0 - cliffInfluence);
@@ -206,6 +206,14 @@ public class ChunkHeightFiller
         return height;
     }
 
+    /**
+     * @return The shore cliff influence noise at the current column.
+     */
+    protected double sampleShoreNoise()
+    {
+        return shoreSampler.noise(blockX, blockZ);
+    }
+
     protected void setupColumn(int x, int z)
     {
         this.blockX = x;
@@ -103,6 +103,10 @@ public class ChunkNoiseFiller extends ChunkHeightFiller
     private final BiomeExtension[] localBiomesNoRivers; // 16x16, block pos resolution
     private final double[] localBiomeWeights; // 16x16, block pos resolution
 
+    // Shore noise is only needed in chunks containing shores, so these are filled in bulk, on first use
+    private @Nullable double[] shoreNoise; // 16x16, block pos resolution
+    private @Nullable double[] quartShoreNoise; // 7x7, quart pos resolution, where 0, 0 = -1, -1 relative to the target chunk
+
     // Current local position / context
     private double cellDeltaX, cellDeltaZ; // Delta within a noise cell
     private int lastCellZ; // Last cell Z, needed due to a quick in noise interpolator
@@ -136,7 +140,9 @@ public class ChunkNoiseFiller extends ChunkHeightFiller
         this.riverData = new RiverInfo[16 * 16];
         this.riverFlows = new Flow[5 * 5];
 
+        final WorldGenProfiler.Sample sample = WorldGenProfiler.start();
         sampleRiverData();
+        WorldGenProfiler.end(sample, WorldGenProfiler.Stage.SAMPLE_RIVER_DATA);
 
         this.settings = settings;
         this.interpolator = TrilinearInterpolatorList.create(settings);
@@ -623,6 +629,32 @@ public class ChunkNoiseFiller extends ChunkHeightFiller
         baseBlockSource.useAccurateBiome(localX, localZ, biomeAt);
     }
 
+    @Override
+    protected double sampleShoreNoise()
+    {
+        final int x = blockX - chunkMinX, z = blockZ - chunkMinZ;
+        if (x >= 0 && x < 16 && z >= 0 && z < 16)
+        {
+            if (shoreNoise == null)
+            {
+                shoreNoise = new double[16 * 16];
+                shoreSampler.fill(shoreNoise, chunkMinX, chunkMinZ, 16, 16, 1);
+            }
+            return shoreNoise[x + 16 * z];
+        }
+        if ((x & 3) == 0 && (z & 3) == 0 && x >= -4 && x <= 20 && z >= -4 && z <= 20)
+        {
+            // Exterior points of the slope map
+            if (quartShoreNoise == null)
+            {
+                quartShoreNoise = new double[7 * 7];
+                shoreSampler.fill(quartShoreNoise, chunkMinX - 4, chunkMinZ - 4, 7, 7, 4);
+            }
+            return quartShoreNoise[((x >> 2) + 1) + 7 * ((z >> 2) + 1)];
+        }
+        return super.sampleShoreNoise();
+    }
+
     private void sampleRiverData()
     {
         // Despite sampling river information on a per-block scale, flow gets sampled on a quart scale and interpolated
@@ -6,8 +6,8 @@
 
 package net.dries007.tfc.world;
 
-import java.util.Arrays;
-import java.util.concurrent.locks.StampedLock;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import it.unimi.dsi.fastutil.HashCommon;
 import net.minecraft.util.Mth;
 import net.minecraft.world.level.ChunkPos;
@@ -15,53 +15,75 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * A concurrent (safe to read and write between multiple threads) positional based, lossy, cache.
+ * <p>
+ * This is lock-free: each slot holds an immutable {@code (key, value)} entry, which is published and read with volatile semantics. A reader
+ * either observes a complete entry, or a stale one, which is then rejected by comparing keys. Writers never block readers or each other, and
+ * since every slot is independent, contention is only ever on a single slot, rather than the whole cache.
  */
 public class FastConcurrentCache<T>
 {
-    private final StampedLock lock = new StampedLock();
-
-    private final long[] keys;
-    private final T[] values;
+    private final AtomicReferenceArray<Entry<T>> entries;
     private final int mask;
 
-    @SuppressWarnings("unchecked")
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param size The capacity of the cache. This will be rounded up to the nearest power of two.
+     */
     public FastConcurrentCache(int size)
     {
         size = Mth.smallestEncompassingPowerOfTwo(size);
 
         this.mask = size - 1;
-        this.keys = new long[size];
-        this.values = (T[]) new Object[size];
-
-        Arrays.fill(this.keys, Long.MIN_VALUE);
+        this.entries = new AtomicReferenceArray<>(size);
     }
 
     @Nullable
     public T getIfPresent(int x, int z)
     {
         final long key = ChunkPos.asLong(x, z);
-        final int index = (int) HashCommon.mix(key) & mask;
-        final long stamp = lock.readLock();
-
-        T t = null;
-        if (keys[index] == key)
+        final Entry<T> entry = entries.get(index(key));
+        if (entry != null && entry.key == key)
         {
-            t = values[index];
+            hits.increment();
+            return entry.value;
         }
-
-        lock.unlockRead(stamp);
-        return t;
+        misses.increment();
+        return null;
     }
 
     public void set(int x, int z, T value)
     {
         final long key = ChunkPos.asLong(x, z);
-        final int index = (int) HashCommon.mix(key) & mask;
-        final long stamp = lock.writeLock();
+        entries.set(index(key), new Entry<>(key, value));
+    }
+
+    public int capacity()
+    {
+        return mask + 1;
+    }
+
+    /**
+     * @return The number of {@link #getIfPresent(int, int)} queries which found a value. Reported by {@code /tfc worldgen stats}.
+     */
+    public long hits()
+    {
+        return hits.sum();
+    }
 
-        keys[index] = key;
-        values[index] = value;
+    /**
+     * @return The number of {@link #getIfPresent(int, int)} queries which did not find a value.
+     */
+    public long misses()
+    {
+        return misses.sum();
+    }
 
-        lock.unlockWrite(stamp);
+    private int index(long key)
+    {
+        return (int) HashCommon.mix(key) & mask;
     }
+
+    private record Entry<T>(long key, T value) {}
 }
@@ -77,6 +77,8 @@ import net.minecraft.world.level.levelgen.structure.Structure;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplateManager;
 import org.jetbrains.annotations.Nullable;
 
+import net.dries007.tfc.common.blocks.TFCBlocks;
+import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.mixin.accessor.ChunkAccessAccessor;
 import net.dries007.tfc.mixin.accessor.ChunkGeneratorAccessor;
 import net.dries007.tfc.mixin.accessor.ChunkMapAccessor;
@@ -95,6 +97,7 @@ import net.dries007.tfc.world.noise.Noise2D;
 import net.dries007.tfc.world.noise.NoiseSampler;
 import net.dries007.tfc.world.noise.OpenSimplex2D;
 import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.region.RegionStorage;
 import net.dries007.tfc.world.river.RiverBlendType;
 import net.dries007.tfc.world.river.RiverNoiseSampler;
 import net.dries007.tfc.world.settings.Settings;
@@ -124,11 +127,13 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
 
     private final NoiseBasedChunkGenerator stupidMojangChunkGenerator; // Mojang fix your god awful deprecated carver nonsense
     private final FastConcurrentCache<TFCAquifer> aquiferCache;
+    private final FastConcurrentCache<BaseHeights> baseHeightCache;
 
     private ChunkDataGenerator chunkDataGenerator;
     private long noiseSamplerSeed;
     private SurfaceManager surfaceManager;
     private NoiseSampler noiseSampler;
+    private ThreadLocal<BaseHeightSamplers> baseHeightSamplers;
 
     public TFCChunkGenerator(BiomeSourceExtension biomeSource, Holder<NoiseGeneratorSettings> noiseSettings, Settings settings)
     {
@@ -140,6 +145,23 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
 
         this.stupidMojangChunkGenerator = new NoiseBasedChunkGenerator(biomeSource.self(), noiseSettings);
         this.aquiferCache = new FastConcurrentCache<>(256);
+        this.baseHeightCache = new FastConcurrentCache<>(1024);
+    }
+
+    /**
+     * @return The per-chunk cache of aquifers. Only used to report cache statistics.
+     */
+    public FastConcurrentCache<?> aquiferCache()
+    {
+        return aquiferCache;
+    }
+
+    /**
+     * @return The per-chunk cache of base heights. Only used to report cache statistics.
+     */
+    public FastConcurrentCache<?> baseHeightCache()
+    {
+        return baseHeightCache;
     }
 
     @Override
@@ -200,6 +222,11 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         final RandomSource random = new XoroshiroRandomSource(seed);
 
         final RegionGenerator regionGenerator = new RegionGenerator(settings, random);
+        regionGenerator.setParallel(TFCConfig.COMMON.parallelRegionGeneration.get());
+        if (TFCConfig.COMMON.enableRegionStorage.get())
+        {
+            regionGenerator.setStorage(RegionStorage.create(level, regionGenerator.seed(), settings));
+        }
         final AreaFactory factory = TFCLayers.createRegionBiomeLayer(regionGenerator, random.nextLong());
         final ConcurrentArea<BiomeExtension> biomeLayer = new ConcurrentArea<>(factory, TFCLayers::getFromLayerId);
 
@@ -208,6 +235,9 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         this.chunkDataGenerator = regionGenerator.chunkDataGenerator();
         this.surfaceManager = new SurfaceManager(seed);
 
+        // Samplers used for base height queries are prepared without a chunk, so they can be reused by all queries on the same thread
+        this.baseHeightSamplers = ThreadLocal.withInitial(() -> new BaseHeightSamplers(createBiomeSamplersForChunk(null), createRiverSamplersForChunk(), createShoreSamplerForChunk()));
+
         this.customBiomeSource.initRandomState(regionGenerator, biomeLayer);
 
         // Update the cached chunk generator extension on the RandomState
@@ -216,6 +246,17 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         ((RandomStateExtension) (Object) ((ChunkMapAccessor) chunkMap).accessor$getRandomState()).tfc$setChunkGeneratorExtension(this);
     }
 
+    /**
+     * @return The shore cliff influence noise, sampled per block by {@link ChunkHeightFiller}, and in bulk by {@link ChunkNoiseFiller}.
+     */
+    public static Noise2D createShoreSampler(long seed)
+    {
+        return new OpenSimplex2D(seed)
+            .octaves(2)
+            .spread(0.003f)
+            .scaled(-0.1, 1.1);
+    }
+
     public ChunkHeightFiller createHeightFillerForChunk(ChunkPos pos)
     {
         final Object2DoubleMap<BiomeExtension>[] biomeWeights = ChunkBiomeSampler.sampleBiomes(pos, this::sampleBiomeNoRiver, BiomeExtension::biomeBlendType);
@@ -233,8 +274,10 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
     public CompletableFuture<ChunkAccess> createBiomes(RandomState randomState, Blender blender, StructureManager structureManager, ChunkAccess chunk)
     {
         return CompletableFuture.supplyAsync(() -> {
+            final WorldGenProfiler.Sample sample = WorldGenProfiler.start();
             chunkDataGenerator.generate(chunk);
             chunk.fillBiomesFromNoise((quartX, quartY, quartZ, sampler) -> customBiomeSource.getBiome(quartX, quartZ), NoopClimateSampler.INSTANCE);
+            WorldGenProfiler.end(sample, WorldGenProfiler.Stage.CREATE_BIOMES);
             return chunk;
         }, Util.backgroundExecutor());
     }
@@ -248,6 +291,7 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
             return;
         }
 
+        final WorldGenProfiler.Sample sample = WorldGenProfiler.start();
         final BiomeManager customBiomeManager = biomeManager.withDifferentSource((x, y, z) -> customBiomeSource.getBiome(x, z));
         final PositionalRandomFactory fork = new XoroshiroRandomSource(seed).forkPositional();
         final ChunkPos chunkPos = chunk.getPos();
@@ -286,11 +330,13 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
                 }
             }
         }
+        WorldGenProfiler.end(sample, WorldGenProfiler.Stage.APPLY_CARVERS);
     }
 
     @Override
     public void applyBiomeDecoration(WorldGenLevel level, ChunkAccess chunk, StructureManager structureFeatureManager)
     {
+        final WorldGenProfiler.Sample sample = WorldGenProfiler.start();
         final ChunkPos chunkPos = chunk.getPos();
         final SectionPos sectionPos = SectionPos.of(chunkPos, level.getMinSection());
         final BlockPos originPos = sectionPos.origin();
@@ -351,15 +397,22 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
                 Arrays.sort(sortedIndices);
                 for (int featureIndex : sortedIndices)
                 {
+                    final PlacedFeature feature = step.features().get(featureIndex);
+                    final WorldGenProfiler.Sample featureSample = WorldGenProfiler.start();
+
                     Helpers.seedLargeFeatures(random, baseSeed, featureIndex, decorationIndex);
-                    step.features()
-                        .get(featureIndex)
-                        .placeWithBiomeCheck(level, this, random, originPos);
+                    feature.placeWithBiomeCheck(level, this, random, originPos);
+
+                    if (featureSample != null)
+                    {
+                        WorldGenProfiler.endFeature(featureSample, String.valueOf(level.registryAccess().registryOrThrow(Registries.PLACED_FEATURE).getKey(feature)));
+                    }
                 }
             }
         }
 
         level.setCurrentlyGenerating(null);
+        WorldGenProfiler.end(sample, WorldGenProfiler.Stage.APPLY_BIOME_DECORATION);
     }
 
     @Override
@@ -431,16 +484,24 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         final ChunkNoiseFiller filler = new ChunkNoiseFiller((ProtoChunk) chunk, biomeWeights, customBiomeSource, createBiomeSamplersForChunk(chunk), createRiverSamplersForChunk(), createShoreSamplerForChunk(), noiseSampler, baseBlockSource, settings, getSeaLevel(), Beardifier.forStructuresInChunk(structureManager, chunkPos));
 
         return CompletableFuture.supplyAsync(() -> {
+            WorldGenProfiler.Sample sample = WorldGenProfiler.start();
             filler.sampleAquiferSurfaceHeight(this::sampleBiomeNoRiver);
+            WorldGenProfiler.end(sample, WorldGenProfiler.Stage.SAMPLE_AQUIFER_SURFACE_HEIGHT);
+
             chunkData.generateFull(filler.surfaceHeight(), filler.aquifer().surfaceHeights());
             chunkData.getRockData().useCache(chunkPos);
+
+            sample = WorldGenProfiler.start();
             filler.fillFromNoise();
+            WorldGenProfiler.end(sample, WorldGenProfiler.Stage.FILL_FROM_NOISE);
 
             aquiferCache.set(chunkPos.x, chunkPos.z, filler.aquifer());
 
             sections.forEach(LevelChunkSection::release);
 
+            sample = WorldGenProfiler.start();
             surfaceManager.buildSurface(actualLevel, chunk, rockLayerSettings(), chunkData, filler.localBiomes(), filler.localBiomesNoRivers(), filler.localBiomeWeights(), filler.createSlopeMap(), random, getSeaLevel(), settings.minY());
+            WorldGenProfiler.end(sample, WorldGenProfiler.Stage.BUILD_SURFACE);
 
             return chunk;
         }, Util.backgroundExecutor());
@@ -461,14 +522,27 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
     @Override
     public int getBaseHeight(int x, int z, Heightmap.Types type, LevelHeightAccessor level, RandomState state)
     {
-        final ChunkPos pos = new ChunkPos(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(z));
-        return (int) createHeightFillerForChunk(pos).sampleHeight(x, z);
+        return sampleBaseHeight(x, z);
     }
 
     @Override
     public NoiseColumn getBaseColumn(int x, int z, LevelHeightAccessor level, RandomState state)
     {
-        return new NoiseColumn(0, new BlockState[0]);
+        final int minY = Math.max(getMinY(), level.getMinBuildHeight());
+        final int maxY = Math.min(getMinY() + getGenDepth(), level.getMaxBuildHeight());
+        final int height = sampleBaseHeight(x, z);
+
+        final BlockState solid = Blocks.STONE.defaultBlockState();
+        final BlockState fluid = sampleBiomeNoRiver(x, z).isSalty() ? TFCBlocks.SALT_WATER.get().defaultBlockState() : Blocks.WATER.defaultBlockState();
+        final BlockState air = Blocks.AIR.defaultBlockState();
+        final BlockState[] states = new BlockState[Math.max(0, maxY - minY)];
+
+        for (int i = 0; i < states.length; i++)
+        {
+            final int y = minY + i;
+            states[i] = y < height ? solid : y < getSeaLevel() ? fluid : air;
+        }
+        return new NoiseColumn(minY, states);
     }
 
     @Override
@@ -523,6 +597,35 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         return customBiomeSource.getBiomeExtensionNoRiver(QuartPos.fromBlock(blockX), QuartPos.fromBlock(blockZ));
     }
 
+    /**
+     * Samples the approximate height at a given position, without a chunk. This memoizes both the biome weights and sampled heights per chunk,
+     * as structure placement will query many positions within the same chunk, and reuses thread local biome samplers, as they are expensive to
+     * construct, and independent of the chunk when prepared without one.
+     */
+    private int sampleBaseHeight(int blockX, int blockZ)
+    {
+        final int chunkX = SectionPos.blockToSectionCoord(blockX);
+        final int chunkZ = SectionPos.blockToSectionCoord(blockZ);
+
+        BaseHeights entry = baseHeightCache.getIfPresent(chunkX, chunkZ);
+        if (entry == null)
+        {
+            entry = new BaseHeights(ChunkBiomeSampler.sampleBiomes(new ChunkPos(chunkX, chunkZ), this::sampleBiomeNoRiver, BiomeExtension::biomeBlendType));
+            baseHeightCache.set(chunkX, chunkZ, entry);
+        }
+
+        final int index = (blockX & 15) | ((blockZ & 15) << 4);
+        int height = entry.heights[index];
+        if (height == BaseHeights.UNKNOWN)
+        {
+            // Races here are benign, as any thread sampling the same column computes the same height
+            final BaseHeightSamplers samplers = baseHeightSamplers.get();
+            height = (int) new ChunkHeightFiller(entry.biomeWeights, customBiomeSource, samplers.biomeSamplers, samplers.riverSamplers, samplers.shoreSampler, getSeaLevel()).sampleHeight(blockX, blockZ);
+            entry.heights[index] = height;
+        }
+        return height;
+    }
+
     private ChunkBaseBlockSource createBaseBlockSourceForChunk(ChunkAccess chunk)
     {
         final RockData rockData = ChunkData.get(chunk).getRockData();
@@ -597,14 +700,32 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
 
     private Noise2D createShoreSamplerForChunk()
     {
-        return new OpenSimplex2D(noiseSamplerSeed)
-            .octaves(2)
-            .spread(0.003f)
-            .scaled(-0.1, 1.1);
+        return createShoreSampler(noiseSamplerSeed);
     }
 
     private TFCChunkGenerator copy()
     {
         return new TFCChunkGenerator(customBiomeSource.copy(), noiseSettings, settings);
     }
+
+    record BaseHeightSamplers(Map<BiomeExtension, BiomeNoiseSampler> biomeSamplers, Map<RiverBlendType, RiverNoiseSampler> riverSamplers, Noise2D shoreSampler) {}
+
+    /**
+     * A lazily populated 16x16 grid of base heights for a single chunk, along with the biome weights required to sample them.
+     */
+    static final class BaseHeights
+    {
+        static final int UNKNOWN = Integer.MIN_VALUE;
+
+        final Object2DoubleMap<BiomeExtension>[] biomeWeights;
+        final int[] heights;
+
+        BaseHeights(Object2DoubleMap<BiomeExtension>[] biomeWeights)
+        {
+            this.biomeWeights = biomeWeights;
+            this.heights = new int[16 * 16];
+
+            Arrays.fill(heights, UNKNOWN);
+        }
+    }
 }
\ No newline at end of file
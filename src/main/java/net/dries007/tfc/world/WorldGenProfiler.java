@@ -0,0 +1,213 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An opt-in profiler for the stages of TFC chunk generation. When enabled (via {@code /tfc worldgen profile start}), each stage records a
+ * latency histogram, and the number of bytes allocated by the generating thread, per chunk. When disabled, {@link #start()} returns
+ * {@code null} and the cost is a single volatile read.
+ */
+public final class WorldGenProfiler
+{
+    private static final int BUCKETS = 32; // Power of two buckets, in microseconds
+    private static final @Nullable com.sun.management.ThreadMXBean THREADS = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported() ? bean : null;
+
+    private static final Map<Stage, Histogram> STAGES = new EnumMap<>(Stage.class);
+    private static final Map<String, Histogram> FEATURES = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled = false;
+
+    static
+    {
+        for (Stage stage : Stage.values())
+        {
+            STAGES.put(stage, new Histogram());
+        }
+    }
+
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled)
+    {
+        WorldGenProfiler.enabled = enabled;
+    }
+
+    public static void reset()
+    {
+        STAGES.values().forEach(Histogram::reset);
+        FEATURES.clear();
+    }
+
+    /**
+     * @return A sample which must be passed to {@link #end(Sample, Stage)}, or {@code null} if profiling is not enabled.
+     */
+    @Nullable
+    public static Sample start()
+    {
+        return enabled ? new Sample(System.nanoTime(), allocatedBytes()) : null;
+    }
+
+    public static void end(@Nullable Sample sample, Stage stage)
+    {
+        if (sample != null)
+        {
+            STAGES.get(stage).record(sample);
+        }
+    }
+
+    public static void endFeature(@Nullable Sample sample, String feature)
+    {
+        if (sample != null)
+        {
+            FEATURES.computeIfAbsent(feature, key -> new Histogram()).record(sample);
+        }
+    }
+
+    /**
+     * @return Human-readable lines describing each stage, followed by the ten most expensive features, by total time.
+     */
+    public static List<String> describe()
+    {
+        final List<String> lines = new ArrayList<>();
+        STAGES.forEach((stage, histogram) -> lines.add(histogram.describe(stage.getSerializedName())));
+        FEATURES.entrySet()
+            .stream()
+            .sorted((a, b) -> Long.compare(b.getValue().totalNanos.sum(), a.getValue().totalNanos.sum()))
+            .limit(10)
+            .forEach(e -> lines.add(e.getValue().describe(e.getKey())));
+        return lines;
+    }
+
+    /**
+     * Writes all stages and features as a CSV file.
+     */
+    public static void dump(Path path) throws IOException
+    {
+        try (BufferedWriter writer = Files.newBufferedWriter(path))
+        {
+            writer.write("name,count,total_ms,mean_ms,p50_ms,p99_ms,max_ms,mean_allocated_bytes");
+            writer.newLine();
+            for (Map.Entry<Stage, Histogram> entry : STAGES.entrySet())
+            {
+                writer.write(entry.getValue().toCsv(entry.getKey().getSerializedName()));
+                writer.newLine();
+            }
+            for (Map.Entry<String, Histogram> entry : FEATURES.entrySet())
+            {
+                writer.write(entry.getValue().toCsv("feature/" + entry.getKey()));
+                writer.newLine();
+            }
+        }
+    }
+
+    private static long allocatedBytes()
+    {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    public enum Stage
+    {
+        CREATE_BIOMES,
+        SAMPLE_RIVER_DATA,
+        SAMPLE_AQUIFER_SURFACE_HEIGHT,
+        FILL_FROM_NOISE,
+        BUILD_SURFACE,
+        APPLY_CARVERS,
+        APPLY_BIOME_DECORATION;
+
+        public String getSerializedName()
+        {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public record Sample(long startNanos, long startAllocatedBytes) {}
+
+    static final class Histogram
+    {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder totalAllocatedBytes = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        void record(Sample sample)
+        {
+            final long nanos = System.nanoTime() - sample.startNanos;
+            final long micros = nanos / 1000;
+
+            count.increment();
+            totalNanos.add(nanos);
+            totalAllocatedBytes.add(Math.max(0, allocatedBytes() - sample.startAllocatedBytes));
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            buckets.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros)));
+        }
+
+        void reset()
+        {
+            count.reset();
+            totalNanos.reset();
+            totalAllocatedBytes.reset();
+            maxNanos.set(0);
+            for (int i = 0; i < BUCKETS; i++)
+            {
+                buckets.set(i, 0);
+            }
+        }
+
+        String describe(String name)
+        {
+            final long n = count.sum();
+            return n == 0
+                ? "%s: no samples".formatted(name)
+                : "%s: n=%d mean=%.2fms p50=%.2fms p99=%.2fms max=%.2fms alloc=%dKB".formatted(name, n, totalNanos.sum() / (1e6 * n), percentileMillis(0.5), percentileMillis(0.99), maxNanos.get() / 1e6, totalAllocatedBytes.sum() / (1024 * n));
+        }
+
+        String toCsv(String name)
+        {
+            final long n = Math.max(1, count.sum());
+            return String.format(Locale.ROOT, "%s,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%d", name, count.sum(), totalNanos.sum() / 1e6, totalNanos.sum() / (1e6 * n), percentileMillis(0.5), percentileMillis(0.99), maxNanos.get() / 1e6, totalAllocatedBytes.sum() / n);
+        }
+
+        /**
+         * @return An upper bound of the given percentile, in milliseconds, from the power of two buckets.
+         */
+        private double percentileMillis(double percentile)
+        {
+            final long target = (long) Math.ceil(percentile * count.sum());
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++)
+            {
+                seen += buckets.get(i);
+                if (seen >= target)
+                {
+                    return (1L << i) / 1000.0;
+                }
+            }
+            return maxNanos.get() / 1e6;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.chunkdata;
+
+/**
+ * A 16x16, block resolution, precomputed view of the climate {@link LerpFloatLayer}s of a single chunk. Climate is queried for individual
+ * blocks very frequently (crops, snow, foods, colors), and this turns each query into an array load, rather than a bilinear interpolation.
+ * <p>
+ * This is immutable, and built lazily by {@link ChunkData} on first query, so it is safe to read from multiple threads.
+ */
+public final class ChunkClimateTile
+{
+    public static ChunkClimateTile create(LerpFloatLayer rainfallLayer, LerpFloatLayer rainVarianceLayer, LerpFloatLayer baseGroundwaterLayer, LerpFloatLayer temperatureLayer)
+    {
+        return new ChunkClimateTile(fill(rainfallLayer), fill(rainVarianceLayer), fill(baseGroundwaterLayer), fill(temperatureLayer));
+    }
+
+    private static float[] fill(LerpFloatLayer layer)
+    {
+        final float[] values = new float[16 * 16];
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                values[x + 16 * z] = layer.getValue(x / 16f, z / 16f);
+            }
+        }
+        return values;
+    }
+
+    private static int index(int x, int z)
+    {
+        return (x & 15) + 16 * (z & 15);
+    }
+
+    private final float[] rainfall;
+    private final float[] rainVariance;
+    private final float[] baseGroundwater;
+    private final float[] averageTemperature;
+
+    private ChunkClimateTile(float[] rainfall, float[] rainVariance, float[] baseGroundwater, float[] averageTemperature)
+    {
+        this.rainfall = rainfall;
+        this.rainVariance = rainVariance;
+        this.baseGroundwater = baseGroundwater;
+        this.averageTemperature = averageTemperature;
+    }
+
+    public float rainfall(int x, int z)
+    {
+        return rainfall[index(x, z)];
+    }
+
+    public float rainVariance(int x, int z)
+    {
+        return rainVariance[index(x, z)];
+    }
+
+    public float baseGroundwater(int x, int z)
+    {
+        return baseGroundwater[index(x, z)];
+    }
+
+    public float averageTemperature(int x, int z)
+    {
+        return averageTemperature[index(x, z)];
+    }
+}
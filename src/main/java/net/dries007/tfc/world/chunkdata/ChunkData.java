@@ -85,11 +85,10 @@ public sealed class ChunkData
     private @Nullable LerpFloatLayer rainVarianceLayer;
     @Nullable private LerpFloatLayer baseGroundwaterLayer;
     @Nullable private LerpFloatLayer temperatureLayer;
+    @Nullable private ChunkClimateTile climateTile; // Lazily computed from the above layers
     private int @Nullable [] aquiferSurfaceHeight;
     private ForestType forestType;
 
-    private long lastRandomTick;
-
     public ChunkData(ChunkPos pos)
     {
         this(null, pos);
@@ -102,7 +101,6 @@ public sealed class ChunkData
         this.status = Status.EMPTY;
         this.rockData = new RockData(generator);
         this.forestType = ForestType.GRASSLAND;
-        this.lastRandomTick = -1;
     }
 
     public ChunkPos getPos()
@@ -131,7 +129,8 @@ public sealed class ChunkData
 
     public float getRainfall(int x, int z)
     {
-        return rainfallLayer == null ? UNKNOWN_RAINFALL : rainfallLayer.getValue((x & 15) / 16f, (z & 15) / 16f);
+        final ChunkClimateTile tile = getClimateTile();
+        return tile == null ? UNKNOWN_RAINFALL : tile.rainfall(x, z);
     }
 
     public float getRainVariance(BlockPos pos)
@@ -141,7 +140,8 @@ public sealed class ChunkData
 
     public float getRainVariance(int x, int z)
     {
-        return rainVarianceLayer == null ? UNKNOWN_RAIN_VARIANCE : rainVarianceLayer.getValue((x & 15) / 16f, (z & 15) / 16f);
+        final ChunkClimateTile tile = getClimateTile();
+        return tile == null ? UNKNOWN_RAIN_VARIANCE : tile.rainVariance(x, z);
     }
 
     public float getBaseGroundwater(BlockPos pos)
@@ -151,7 +151,8 @@ public sealed class ChunkData
 
     public float getBaseGroundwater(int x, int z)
     {
-        return baseGroundwaterLayer == null ? UNKNOWN_BASE_GROUNDWATER : baseGroundwaterLayer.getValue((x & 15) / 16f, (z & 15) / 16f);
+        final ChunkClimateTile tile = getClimateTile();
+        return tile == null ? UNKNOWN_BASE_GROUNDWATER : tile.baseGroundwater(x, z);
     }
 
     public float getGroundwater(BlockPos pos)
@@ -171,7 +172,23 @@ public sealed class ChunkData
 
     public float getAverageTemp(int x, int z)
     {
-        return temperatureLayer == null ? UNKNOWN_TEMPERATURE : temperatureLayer.getValue((x & 15) / 16f, (z & 15) / 16f);
+        final ChunkClimateTile tile = getClimateTile();
+        return tile == null ? UNKNOWN_TEMPERATURE : tile.averageTemperature(x, z);
+    }
+
+    /**
+     * @return The precomputed climate of this chunk, or {@code null} if the climate is not yet known.
+     */
+    @Nullable
+    public ChunkClimateTile getClimateTile()
+    {
+        ChunkClimateTile tile = climateTile;
+        if (tile == null && rainfallLayer != null && rainVarianceLayer != null && baseGroundwaterLayer != null && temperatureLayer != null)
+        {
+            tile = ChunkClimateTile.create(rainfallLayer, rainVarianceLayer, baseGroundwaterLayer, temperatureLayer);
+            climateTile = tile;
+        }
+        return tile;
     }
 
     public ForestType getForestType()
@@ -184,17 +201,6 @@ public sealed class ChunkData
         return status;
     }
 
-    public long getLastRandomTick()
-    {
-        return lastRandomTick;
-    }
-
-    public void setLastRandomTick(ChunkAccess chunk, long lastRandomTick)
-    {
-        this.lastRandomTick = lastRandomTick;
-        chunk.setUnsaved(true); // Flag the chunk, since we need to re-save the data
-    }
-
     /**
      * Generate the chunk data from empty to {@link Status#PARTIAL}. Populated lazily on first creation, and guaranteed to be done by structure stage.
      */
@@ -206,6 +212,7 @@ public sealed class ChunkData
         this.rainVarianceLayer = rainVarianceLayer;
         this.baseGroundwaterLayer = baseGroundwaterLayer;
         this.temperatureLayer = temperatureLayer;
+        this.climateTile = null;
         this.forestType = forestType;
         this.status = Status.PARTIAL;
     }
@@ -244,6 +251,7 @@ public sealed class ChunkData
         this.rainVarianceLayer = rainVarianceLayer;
         this.baseGroundwaterLayer = baseGroundwaterLayer;
         this.temperatureLayer = temperatureLayer;
+        this.climateTile = null;
         this.forestType = forestType;
         this.status = Status.CLIENT;
     }
@@ -291,6 +299,7 @@ public sealed class ChunkData
             rainVarianceLayer = new LerpFloatLayer(nbt.getCompound("rainVariance"));
             baseGroundwaterLayer = new LerpFloatLayer(nbt.getCompound("baseGroundwater"));
             temperatureLayer = new LerpFloatLayer(nbt.getCompound("temperature"));
+            climateTile = null;
             forestType = ForestType.valueOf(nbt.getByte("forestType"));
         }
     }
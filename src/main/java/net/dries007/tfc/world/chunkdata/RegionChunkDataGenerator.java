@@ -82,6 +82,11 @@ public final class RegionChunkDataGenerator implements ChunkDataGenerator
         this.forestTypeLayer = new ConcurrentArea<>(TFCLayers.createOverworldForestLayer(random.nextLong(), IArtist.nope()), ForestType::valueOf);
     }
 
+    public RegionGenerator regionGenerator()
+    {
+        return regionGenerator;
+    }
+
     @Override
     public ChunkData generate(ChunkData data)
     {
@@ -6,6 +6,8 @@
 
 package net.dries007.tfc.world.noise;
 
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
 import java.util.function.DoubleUnaryOperator;
 import net.minecraft.util.Mth;
 
@@ -17,6 +19,45 @@ public interface Noise2D
 {
     double noise(double x, double z);
 
+    /**
+     * Samples this noise over a grid of {@code width x height} points, starting at {@code (x0, z0)}, with a spacing of {@code step} between each
+     * point. Values are written to {@code out[x + width * z]}, for {@code x in [0, width), z in [0, height)}. The result is identical to sampling
+     * each point with {@link #noise(double, double)}, at {@code (x0 + x * step, z0 + z * step)}.
+     */
+    default void fill(double[] out, double x0, double z0, int width, int height, double step)
+    {
+        final double[] xs = new double[width], zs = new double[height];
+        for (int x = 0; x < width; x++)
+        {
+            xs[x] = x0 + x * step;
+        }
+        for (int z = 0; z < height; z++)
+        {
+            zs[z] = z0 + z * step;
+        }
+        fill(out, xs, zs);
+    }
+
+    /**
+     * Samples this noise over the grid of points {@code (xs[x], zs[z])}, writing values to {@code out[x + xs.length * z]}. The result is
+     * identical to sampling each point with {@link #noise(double, double)}.
+     * <p>
+     * Implementations, and the combinators below, override this to evaluate the whole grid in a single tight loop, rather than one dispatch
+     * through every layer of the noise, per point. Combinators which transform coordinates apply the same operation to each coordinate as
+     * {@link #noise(double, double)} does, rather than to an origin and step, so the two never round differently.
+     */
+    default void fill(double[] out, double[] xs, double[] zs)
+    {
+        final int width = xs.length;
+        for (int z = 0; z < zs.length; z++)
+        {
+            for (int x = 0; x < width; x++)
+            {
+                out[x + width * z] = noise(xs[x], zs[z]);
+            }
+        }
+    }
+
     /**
      * @param octaves The number of octaves
      */
@@ -29,13 +70,43 @@ public interface Noise2D
             frequency[i] = 1 << i;
             amplitude[i] = (double) Math.pow(0.5f, octaves - i);
         }
-        return (x, y) -> {
-            double value = 0;
-            for (int i = 0; i < octaves; i++)
+        return new Noise2D()
+        {
+            @Override
+            public double noise(double x, double z)
             {
-                value += Noise2D.this.noise(x / frequency[i], y / frequency[i]) * amplitude[i];
+                double value = 0;
+                for (int i = 0; i < octaves; i++)
+                {
+                    value += Noise2D.this.noise(x / frequency[i], z / frequency[i]) * amplitude[i];
+                }
+                return value;
+            }
+
+            @Override
+            public void fill(double[] out, double[] xs, double[] zs)
+            {
+                final int size = xs.length * zs.length;
+                final double[] octave = new double[size];
+                final double[] octaveXs = new double[xs.length], octaveZs = new double[zs.length];
+                Arrays.fill(out, 0, size, 0);
+                for (int i = 0; i < octaves; i++)
+                {
+                    for (int j = 0; j < xs.length; j++)
+                    {
+                        octaveXs[j] = xs[j] / frequency[i];
+                    }
+                    for (int j = 0; j < zs.length; j++)
+                    {
+                        octaveZs[j] = zs[j] / frequency[i];
+                    }
+                    Noise2D.this.fill(octave, octaveXs, octaveZs);
+                    for (int j = 0; j < size; j++)
+                    {
+                        out[j] += octave[j] * amplitude[i];
+                    }
+                }
             }
-            return value;
         };
     }
 
@@ -87,7 +158,20 @@ public interface Noise2D
      */
     default Noise2D spread(double scaleFactor)
     {
-        return (x, y) -> Noise2D.this.noise(x * scaleFactor, y * scaleFactor);
+        return new Noise2D()
+        {
+            @Override
+            public double noise(double x, double z)
+            {
+                return Noise2D.this.noise(x * scaleFactor, z * scaleFactor);
+            }
+
+            @Override
+            public void fill(double[] out, double[] xs, double[] zs)
+            {
+                Noise2D.this.fill(out, scale(xs, scaleFactor), scale(zs, scaleFactor));
+            }
+        };
     }
 
     default Noise2D scaled(double min, double max)
@@ -113,7 +197,24 @@ public interface Noise2D
 
     default Noise2D affine(double scale, double shift)
     {
-        return (x, y) -> Noise2D.this.noise(x, y) * scale + shift;
+        return new Noise2D()
+        {
+            @Override
+            public double noise(double x, double z)
+            {
+                return Noise2D.this.noise(x, z) * scale + shift;
+            }
+
+            @Override
+            public void fill(double[] out, double[] xs, double[] zs)
+            {
+                Noise2D.this.fill(out, xs, zs);
+                for (int i = 0, size = xs.length * zs.length; i < size; i++)
+                {
+                    out[i] = out[i] * scale + shift;
+                }
+            }
+        };
     }
 
     default Noise2D warped(OpenSimplex2D warp)
@@ -139,7 +240,7 @@ public interface Noise2D
      */
     default Noise2D clamped(double min, double max)
     {
-        return (x, y) -> Mth.clamp(Noise2D.this.noise(x, y), min, max);
+        return map(value -> Mth.clamp(value, min, max));
     }
 
     /**
@@ -147,7 +248,7 @@ public interface Noise2D
      */
     default Noise2D add(Noise2D other)
     {
-        return (x, y) -> Noise2D.this.noise(x, y) + other.noise(x, y);
+        return combine(other, Double::sum);
     }
 
     /**
@@ -155,7 +256,7 @@ public interface Noise2D
      */
     default Noise2D min(Noise2D other)
     {
-        return (x, y) -> Math.min(Noise2D.this.noise(x, y), other.noise(x, y));
+        return combine(other, Math::min);
     }
 
     /**
@@ -163,7 +264,7 @@ public interface Noise2D
      */
     default Noise2D max(Noise2D other)
     {
-        return (x, y) -> Math.max(Noise2D.this.noise(x, y), other.noise(x, y));
+        return combine(other, Math::max);
     }
 
     /**
@@ -179,7 +280,52 @@ public interface Noise2D
 
     default Noise2D map(DoubleUnaryOperator mappingFunction)
     {
-        return (x, y) -> mappingFunction.applyAsDouble(Noise2D.this.noise(x, y));
+        return new Noise2D()
+        {
+            @Override
+            public double noise(double x, double z)
+            {
+                return mappingFunction.applyAsDouble(Noise2D.this.noise(x, z));
+            }
+
+            @Override
+            public void fill(double[] out, double[] xs, double[] zs)
+            {
+                Noise2D.this.fill(out, xs, zs);
+                for (int i = 0, size = xs.length * zs.length; i < size; i++)
+                {
+                    out[i] = mappingFunction.applyAsDouble(out[i]);
+                }
+            }
+        };
+    }
+
+    /**
+     * Combines this noise with another, point-wise, using the given function.
+     */
+    default Noise2D combine(Noise2D other, DoubleBinaryOperator combiner)
+    {
+        return new Noise2D()
+        {
+            @Override
+            public double noise(double x, double z)
+            {
+                return combiner.applyAsDouble(Noise2D.this.noise(x, z), other.noise(x, z));
+            }
+
+            @Override
+            public void fill(double[] out, double[] xs, double[] zs)
+            {
+                final int size = xs.length * zs.length;
+                final double[] values = new double[size];
+                Noise2D.this.fill(out, xs, zs);
+                other.fill(values, xs, zs);
+                for (int i = 0; i < size; i++)
+                {
+                    out[i] = combiner.applyAsDouble(out[i], values[i]);
+                }
+            }
+        };
     }
 
     /**
@@ -202,4 +348,14 @@ public interface Noise2D
             }
         };
     }
-}
\ No newline at end of file
+
+    private static double[] scale(double[] coordinates, double scaleFactor)
+    {
+        final double[] scaled = new double[coordinates.length];
+        for (int i = 0; i < coordinates.length; i++)
+        {
+            scaled[i] = coordinates[i] * scaleFactor;
+        }
+        return scaled;
+    }
+}
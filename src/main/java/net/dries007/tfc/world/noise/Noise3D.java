@@ -14,6 +14,50 @@ public interface Noise3D
 {
     double noise(double x, double y, double z);
 
+    /**
+     * Samples this noise over a grid of {@code width x height x depth} points, starting at {@code (x0, y0, z0)}, with a spacing of {@code step}
+     * between each point. Values are written to {@code out[x + width * (y + height * z)]}. The result is identical to sampling each point with
+     * {@link #noise(double, double, double)}, at {@code (x0 + x * step, y0 + y * step, z0 + z * step)}.
+     */
+    default void fill(double[] out, double x0, double y0, double z0, int width, int height, int depth, double step)
+    {
+        final double[] xs = new double[width], ys = new double[height], zs = new double[depth];
+        for (int x = 0; x < width; x++)
+        {
+            xs[x] = x0 + x * step;
+        }
+        for (int y = 0; y < height; y++)
+        {
+            ys[y] = y0 + y * step;
+        }
+        for (int z = 0; z < depth; z++)
+        {
+            zs[z] = z0 + z * step;
+        }
+        fill(out, xs, ys, zs);
+    }
+
+    /**
+     * Samples this noise over the grid of points {@code (xs[x], ys[y], zs[z])}, writing values to {@code out[x + xs.length * (y + ys.length * z)]}.
+     * The result is identical to sampling each point with {@link #noise(double, double, double)}.
+     *
+     * @see Noise2D#fill(double[], double[], double[])
+     */
+    default void fill(double[] out, double[] xs, double[] ys, double[] zs)
+    {
+        final int width = xs.length, height = ys.length;
+        for (int z = 0; z < zs.length; z++)
+        {
+            for (int y = 0; y < height; y++)
+            {
+                for (int x = 0; x < width; x++)
+                {
+                    out[x + width * (y + height * z)] = noise(xs[x], ys[y], zs[z]);
+                }
+            }
+        }
+    }
+
     /**
      * @param octaves The number of octaves
      */
@@ -44,7 +88,20 @@ public interface Noise3D
      */
     default Noise3D spread(double scaleFactor)
     {
-        return (x, y, z) -> Noise3D.this.noise(x * scaleFactor, y * scaleFactor, z * scaleFactor);
+        return new Noise3D()
+        {
+            @Override
+            public double noise(double x, double y, double z)
+            {
+                return Noise3D.this.noise(x * scaleFactor, y * scaleFactor, z * scaleFactor);
+            }
+
+            @Override
+            public void fill(double[] out, double[] xs, double[] ys, double[] zs)
+            {
+                Noise3D.this.fill(out, scale(xs, scaleFactor), scale(ys, scaleFactor), scale(zs, scaleFactor));
+            }
+        };
     }
 
     default Noise3D scaled(double min, double max)
@@ -63,9 +120,24 @@ public interface Noise3D
      */
     default Noise3D scaled(double oldMin, double oldMax, double min, double max)
     {
-        return (x, y, z) -> {
-            double value = Noise3D.this.noise(x, y, z);
-            return (value - oldMin) / (oldMax - oldMin) * (max - min) + min;
+        return new Noise3D()
+        {
+            @Override
+            public double noise(double x, double y, double z)
+            {
+                double value = Noise3D.this.noise(x, y, z);
+                return (value - oldMin) / (oldMax - oldMin) * (max - min) + min;
+            }
+
+            @Override
+            public void fill(double[] out, double[] xs, double[] ys, double[] zs)
+            {
+                Noise3D.this.fill(out, xs, ys, zs);
+                for (int i = 0, size = xs.length * ys.length * zs.length; i < size; i++)
+                {
+                    out[i] = (out[i] - oldMin) / (oldMax - oldMin) * (max - min) + min;
+                }
+            }
         };
     }
 
@@ -83,4 +155,14 @@ public interface Noise3D
             return Noise3D.this.noise(cursor.x, cursor.y, cursor.z);
         };
     }
-}
\ No newline at end of file
+
+    private static double[] scale(double[] coordinates, double scaleFactor)
+    {
+        final double[] scaled = new double[coordinates.length];
+        for (int i = 0; i < coordinates.length; i++)
+        {
+            scaled[i] = coordinates[i] * scaleFactor;
+        }
+        return scaled;
+    }
+}
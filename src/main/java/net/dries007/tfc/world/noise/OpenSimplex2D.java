@@ -35,6 +35,22 @@ public class OpenSimplex2D implements Noise2D
         return midpoint + fnl.GetNoise(x, z) * amplitude;
     }
 
+    @Override
+    public void fill(double[] out, double[] xs, double[] zs)
+    {
+        final FastNoiseLite fnl = this.fnl;
+        final double midpoint = this.midpoint, amplitude = this.amplitude;
+        final int width = xs.length;
+        for (int z = 0; z < zs.length; z++)
+        {
+            final double zi = zs[z];
+            for (int x = 0; x < width; x++)
+            {
+                out[x + width * z] = midpoint + fnl.GetNoise(xs[x], zi) * amplitude;
+            }
+        }
+    }
+
     @Override
     public OpenSimplex2D octaves(int octaves)
     {
@@ -36,6 +36,26 @@ public class OpenSimplex3D implements Noise3D
         return midpoint + fnl.GetNoise(x, y, z) * amplitude;
     }
 
+    @Override
+    public void fill(double[] out, double[] xs, double[] ys, double[] zs)
+    {
+        final FastNoiseLite fnl = this.fnl;
+        final double midpoint = this.midpoint, amplitude = this.amplitude;
+        final int width = xs.length, height = ys.length;
+        for (int z = 0; z < zs.length; z++)
+        {
+            final double zi = zs[z];
+            for (int y = 0; y < height; y++)
+            {
+                final double yi = ys[y];
+                for (int x = 0; x < width; x++)
+                {
+                    out[x + width * (y + height * z)] = midpoint + fnl.GetNoise(xs[x], yi, zi) * amplitude;
+                }
+            }
+        }
+    }
+
     @Override
     public OpenSimplex3D octaves(int octaves)
     {
@@ -26,13 +26,15 @@ public enum ChooseRocks implements RegionTask
     public void apply(RegionGenerator.Context context)
     {
         final Region region = context.region;
-        final Area rockArea = context.generator().rockArea.get();
 
-        for (final var point : region.points())
-        {
+        // Only modifies the rock of each point, and depends on flags from previous tasks, so this is safe to run in parallel
+        // The rock area is thread local, so it must be queried from each worker
+        context.forEachPoint(point -> {
+            final Area rockArea = context.generator().rockArea.get();
+
             // Lower two bits are the supertype, upper bits are seed
             point.rock = (rockArea.get(point.x, point.z) << TYPE_BITS) | findClosestType(region, point, point.index);
-        }
+        });
     }
 
     private int findClosestType(Region region, Region.Point center, int index)
@@ -6,6 +6,10 @@
 
 package net.dries007.tfc.world.region;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import com.google.common.collect.AbstractIterator;
@@ -18,6 +22,42 @@ import net.dries007.tfc.world.noise.FastNoiseLite;
 
 public final class Region
 {
+    /**
+     * Reads a region previously written with {@link #write(DataOutput)}.
+     */
+    public static Region read(DataInput in) throws IOException
+    {
+        final Region region = new Region(in.readDouble(), in.readDouble(), in.readDouble());
+        region.setRegionArea(in.readInt(), in.readInt(), in.readInt(), in.readInt());
+
+        for (int index = 0; index < region.data.length; index++)
+        {
+            if (in.readBoolean())
+            {
+                final Point point = new Point(region.minX + index % region.sizeX, region.minZ + index / region.sizeX, index);
+                point.read(in);
+                region.data[index] = point;
+            }
+        }
+
+        final int size = in.readInt();
+        final List<RiverEdge> rivers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+        {
+            rivers.add(RiverEdge.read(in));
+        }
+        for (RiverEdge edge : rivers)
+        {
+            final int drainIndex = in.readInt();
+            if (drainIndex != -1)
+            {
+                edge.linkToDrain(rivers.get(drainIndex));
+            }
+        }
+        region.setRivers(rivers);
+        return region;
+    }
+
     private final double cellX;
     private final double cellY;
     private final double noise;
@@ -50,6 +90,14 @@ public final class Region
         this.data = new Point[0]; // Must initialize via `setRegionArea()` first
     }
 
+    private Region(double cellX, double cellY, double noise)
+    {
+        this.cellX = cellX;
+        this.cellY = cellY;
+        this.noise = noise;
+        this.data = new Point[0];
+    }
+
     /**
      * @return An iterator through all points present within this region.
      */
@@ -139,6 +187,41 @@ public final class Region
         return sizeX * sizeZ;
     }
 
+    /**
+     * Writes this region in a compact binary form, which can be read via {@link #read(DataInput)}. Only the complete region, after all
+     * {@link RegionTask}s have been applied, should be written.
+     */
+    public void write(DataOutput out) throws IOException
+    {
+        out.writeDouble(cellX);
+        out.writeDouble(cellY);
+        out.writeDouble(noise);
+        out.writeInt(minX);
+        out.writeInt(minZ);
+        out.writeInt(maxX);
+        out.writeInt(maxZ);
+
+        for (Point point : data)
+        {
+            out.writeBoolean(point != null);
+            if (point != null)
+            {
+                point.write(out);
+            }
+        }
+
+        final List<RiverEdge> rivers = rivers();
+        out.writeInt(rivers.size());
+        for (RiverEdge edge : rivers)
+        {
+            edge.write(out);
+        }
+        for (RiverEdge edge : rivers)
+        {
+            out.writeInt(edge.drainEdge() == null ? -1 : rivers.indexOf(edge.drainEdge()));
+        }
+    }
+
     @Override
     public String toString()
     {
@@ -254,5 +337,39 @@ public final class Region
         public void setLake() { flags |= FLAG_LAKE; }
         public void setMountain() { flags |= FLAG_MOUNTAIN; }
         public void setCoastalMountain() { flags |= FLAG_COASTAL_MOUNTAIN; }
+
+        void write(DataOutput out) throws IOException
+        {
+            out.writeByte(distanceToOcean);
+            out.writeByte(distanceToEdge);
+            out.writeByte(distanceToWestCoast);
+            out.writeByte(baseOceanDepth);
+            out.writeByte(baseLandHeight);
+            out.writeByte(biomeAltitude);
+            out.writeFloat(rainfall);
+            out.writeFloat(rainfallVariance);
+            out.writeFloat(temperature);
+            out.writeInt(biome);
+            out.writeInt(rock);
+            out.writeBoolean(isSurfaceRockKarst);
+            out.writeShort(flags);
+        }
+
+        void read(DataInput in) throws IOException
+        {
+            distanceToOcean = in.readByte();
+            distanceToEdge = in.readByte();
+            distanceToWestCoast = in.readByte();
+            baseOceanDepth = in.readByte();
+            baseLandHeight = in.readByte();
+            biomeAltitude = in.readByte();
+            rainfall = in.readFloat();
+            rainfallVariance = in.readFloat();
+            temperature = in.readFloat();
+            biome = in.readInt();
+            rock = in.readInt();
+            isSurfaceRockKarst = in.readBoolean();
+            flags = in.readShort();
+        }
     }
 }
@@ -8,10 +8,16 @@ package net.dries007.tfc.world.region;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.jetbrains.annotations.VisibleForTesting;
 
@@ -64,6 +70,12 @@ public final class RegionGenerator
 
     private final ChunkDataGenerator chunkDataGenerator;
 
+    private @Nullable RegionStorage storage;
+    private boolean parallel;
+
+    private final LongAdder[] taskNanos;
+    private final LongAdder regionsGenerated;
+
     public RegionGenerator(Settings settings, RandomSource random)
     {
         this.settings = settings;
@@ -76,6 +88,13 @@ public final class RegionGenerator
         this.cellCache = new FastConcurrentCache<>(256);
         this.partitionCache = new FastConcurrentCache<>(256);
 
+        this.taskNanos = new LongAdder[Task.VALUES.length];
+        this.regionsGenerated = new LongAdder();
+        for (int i = 0; i < taskNanos.length; i++)
+        {
+            taskNanos[i] = new LongAdder();
+        }
+
         float min = settings.continentalness() * 10f - 2.5f; // range [0, 1], default 0.5 -> 2.5 continentalness
         this.continentNoise = cellNoise.then(c -> 1 - c.f1() / (0.37f + c.f2()))
             .lazyProduct(new OpenSimplex2D(random.nextLong())
@@ -121,6 +140,83 @@ public final class RegionGenerator
         return chunkDataGenerator;
     }
 
+    /**
+     * Enables a persistent cache of generated regions. This must be called before any regions are generated.
+     */
+    public void setStorage(@Nullable RegionStorage storage)
+    {
+        this.storage = storage;
+    }
+
+    public boolean hasStorage()
+    {
+        return storage != null;
+    }
+
+    /**
+     * If {@code true}, neighboring regions, and independent region tasks, are generated in parallel on the fork/join pool. This only affects
+     * performance, as generated regions are identical either way. This must be called before any regions are generated.
+     */
+    public void setParallel(boolean parallel)
+    {
+        this.parallel = parallel;
+    }
+
+    /**
+     * @return The per-cell cache of regions. Only used to report cache statistics.
+     */
+    public FastConcurrentCache<Region> regionCache()
+    {
+        return cellCache;
+    }
+
+    /**
+     * @return The per-cell cache of region partitions. Only used to report cache statistics.
+     */
+    public FastConcurrentCache<RegionPartition> partitionCache()
+    {
+        return partitionCache;
+    }
+
+    /**
+     * @return The total time, in nanoseconds, spent running the given task, summed over all regions and threads.
+     */
+    public long taskNanos(Task task)
+    {
+        return taskNanos[task.ordinal()].sum();
+    }
+
+    /**
+     * @return The total number of regions that have been generated, by running all tasks, by this generator.
+     */
+    public long regionsGenerated()
+    {
+        return regionsGenerated.sum();
+    }
+
+    /**
+     * Generates all regions, and region partitions, required for the square of {@code radius} blocks around a position, in parallel.
+     * This is used to pre-generate regions ahead of time, which, in combination with a {@link RegionStorage}, means they will not need to
+     * be generated during chunk generation.
+     *
+     * @return A future which completes when all regions have been generated, with the number of region partitions that were visited.
+     */
+    public CompletableFuture<Integer> pregenerate(int blockX, int blockZ, int radius, Executor executor)
+    {
+        final int minCellX = Units.gridToCell(Units.blockToGrid(blockX - radius)), maxCellX = Units.gridToCell(Units.blockToGrid(blockX + radius));
+        final int minCellZ = Units.gridToCell(Units.blockToGrid(blockZ - radius)), maxCellZ = Units.gridToCell(Units.blockToGrid(blockZ + radius));
+        final List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++)
+        {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++)
+            {
+                final int gridX = Units.cellToGrid(cellX), gridZ = Units.cellToGrid(cellZ);
+                futures.add(CompletableFuture.runAsync(() -> getOrCreatePartition(gridX, gridZ), executor));
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(v -> futures.size());
+    }
+
     /**
      * @return A smoothly interpolated value in {@code [0, 1]} representing if we are within the finite continent region or not. Higher values
      * are within the finite continent region.
@@ -193,6 +289,15 @@ public final class RegionGenerator
 
     private List<Region> getAllRegionsIn3x3CellArea(int cellX, int cellZ)
     {
+        if (parallel)
+        {
+            // Each neighbor region is independent, so build them concurrently on the fork/join pool
+            return IntStream.range(0, 9)
+                .parallel()
+                .mapToObj(i -> getOrCreateRegion(sampleCell(Units.cellToGrid(cellX + (i / 3) - 1), Units.cellToGrid(cellZ + (i % 3) - 1))))
+                .toList();
+        }
+
         final List<Region> regions = new ArrayList<>(9);
         for (int dx = -1; dx <= 1; dx++)
         {
@@ -224,7 +329,19 @@ public final class RegionGenerator
         Region entry = cellCache.getIfPresent(cellX, cellZ);
         if (entry == null)
         {
-            entry = createRegion(cell, (id, r) -> {});
+            final RegionStorage storage = this.storage;
+            if (storage != null)
+            {
+                entry = storage.load(cellX, cellZ);
+            }
+            if (entry == null)
+            {
+                entry = createRegion(cell, (id, r) -> {});
+                if (storage != null)
+                {
+                    storage.save(cellX, cellZ, entry);
+                }
+            }
             cellCache.set(cellX, cellZ, entry);
         }
         return entry;
@@ -301,15 +418,45 @@ public final class RegionGenerator
             {
                 run(task);
             }
+            regionsGenerated.increment();
             return this;
         }
 
         void run(Task task)
         {
+            final long start = System.nanoTime();
             task.task.apply(this);
+            taskNanos[task.ordinal()].add(System.nanoTime() - start);
             viewer.accept(task, region);
         }
 
+        /**
+         * Applies {@code action} to every point in the region. If parallel region generation is enabled, this is split across the fork/join
+         * pool, so the action must only modify the point it is given, and must not read any values of other points written by the same task.
+         */
+        public void forEachPoint(Consumer<Region.Point> action)
+        {
+            if (parallel)
+            {
+                IntStream.range(0, region.size())
+                    .parallel()
+                    .forEach(index -> {
+                        final Region.Point point = region.atIndex(index);
+                        if (point != null)
+                        {
+                            action.accept(point);
+                        }
+                    });
+            }
+            else
+            {
+                for (Region.Point point : region.points())
+                {
+                    action.accept(point);
+                }
+            }
+        }
+
         public RegionGenerator generator()
         {
             return RegionGenerator.this;
@@ -0,0 +1,137 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.region;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import com.google.common.hash.Hashing;
+import com.mojang.logging.LogUtils;
+import com.mojang.serialization.JsonOps;
+import net.minecraft.Util;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.storage.LevelResource;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import net.dries007.tfc.world.settings.Settings;
+
+/**
+ * An optional, persistent cache of fully generated {@link Region}s, stored as one compressed binary file per region in the world save.
+ * This avoids re-running every {@link RegionTask} after a server restart, or when a region is evicted from the in-memory cache.
+ * <p>
+ * Each file is versioned by the region generator seed, and a hash of the world generation {@link Settings}. If either changes, or the format
+ * changes, the stored region is ignored and regenerated. {@link RegionPartition}s are not stored, as they are cheaply derived from the regions.
+ */
+public final class RegionStorage
+{
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final int MAGIC = 0x54464352; // 'TFCR'
+    private static final int VERSION = 1;
+
+    public static RegionStorage create(ServerLevel level, long seed, Settings settings)
+    {
+        final Path root = DimensionType.getStorageFolder(level.dimension(), level.getServer().getWorldPath(LevelResource.ROOT));
+        return new RegionStorage(root.resolve("data").resolve("tfc_regions"), seed, hash(settings));
+    }
+
+    private static long hash(Settings settings)
+    {
+        final String encoded = Settings.CODEC.codec()
+            .encodeStart(JsonOps.INSTANCE, settings)
+            .result()
+            .map(Object::toString)
+            .orElse("");
+        return Hashing.murmur3_128().hashString(encoded, StandardCharsets.UTF_8).asLong();
+    }
+
+    private final Path directory;
+    private final long seed;
+    private final long settingsHash;
+
+    RegionStorage(Path directory, long seed, long settingsHash)
+    {
+        this.directory = directory;
+        this.seed = seed;
+        this.settingsHash = settingsHash;
+    }
+
+    /**
+     * @return The stored region for the given cell key, or {@code null} if it is not present, or was written by an incompatible generator.
+     */
+    @Nullable
+    public Region load(int cellX, int cellZ)
+    {
+        final Path path = path(cellX, cellZ);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new InflaterInputStream(Files.newInputStream(path)))))
+        {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != seed || in.readLong() != settingsHash)
+            {
+                return null;
+            }
+            return Region.read(in);
+        }
+        catch (NoSuchFileException e)
+        {
+            return null;
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to read region at {}, it will be regenerated: {}", path, e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the region asynchronously, on the IO pool.
+     */
+    public void save(int cellX, int cellZ, Region region)
+    {
+        Util.ioPool().execute(() -> write(cellX, cellZ, region));
+    }
+
+    private void write(int cellX, int cellZ, Region region)
+    {
+        final Path path = path(cellX, cellZ);
+        try
+        {
+            Files.createDirectories(directory);
+
+            // Write to a temporary file first, so a partially written region is never read
+            final Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(Files.newOutputStream(temp)))))
+            {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(seed);
+                out.writeLong(settingsHash);
+                region.write(out);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to write region at {}: {}", path, e.toString());
+        }
+    }
+
+    private Path path(int cellX, int cellZ)
+    {
+        return directory.resolve("%08x.%08x.bin".formatted(cellX, cellZ));
+    }
+}
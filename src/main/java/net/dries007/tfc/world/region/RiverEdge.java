@@ -6,6 +6,9 @@
 
 package net.dries007.tfc.world.region;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import org.jetbrains.annotations.Nullable;
@@ -33,14 +36,50 @@ public final class RiverEdge
     private boolean sourceEdge; // `true` if this river has a source edge, `false` if it does not.
     private @Nullable RiverEdge drainEdge; // The drain edge of this river
 
+    static RiverEdge read(DataInput in) throws IOException
+    {
+        final River.Vertex source = readVertex(in);
+        final River.Vertex drain = readVertex(in);
+        final double norm = in.readDouble();
+        final double[] segments = new double[in.readInt()];
+        for (int i = 0; i < segments.length; i++)
+        {
+            segments[i] = in.readDouble();
+        }
+
+        final RiverEdge edge = new RiverEdge(source, drain, new MidpointFractal(segments, norm));
+        edge.width = in.readInt();
+        edge.sourceEdge = in.readBoolean();
+        return edge;
+    }
+
+    private static River.Vertex readVertex(DataInput in) throws IOException
+    {
+        return new River.Vertex(in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble(), in.readInt());
+    }
+
+    private static void writeVertex(DataOutput out, River.Vertex vertex) throws IOException
+    {
+        out.writeDouble(vertex.x());
+        out.writeDouble(vertex.y());
+        out.writeDouble(vertex.angle());
+        out.writeDouble(vertex.length());
+        out.writeInt(vertex.distance());
+    }
+
     public RiverEdge(River.Edge edge, RandomSource random)
     {
-        this.source = edge.source();
-        this.drain = edge.drain();
-        this.fractal = edge.fractal(random, 4);
+        this(edge.source(), edge.drain(), edge.fractal(random, 4));
+    }
+
+    private RiverEdge(River.Vertex source, River.Vertex drain, MidpointFractal fractal)
+    {
+        this.source = source;
+        this.drain = drain;
+        this.fractal = fractal;
 
-        final int centerGridX = (int) Math.round(0.5f * (edge.source().x() + edge.drain().x()));
-        final int centerGridZ = (int) Math.round(0.5f * (edge.source().y() + edge.drain().y()));
+        final int centerGridX = (int) Math.round(0.5f * (source.x() + drain.x()));
+        final int centerGridZ = (int) Math.round(0.5f * (source.y() + drain.y()));
 
         this.minPartX = Units.gridToPart(centerGridX - MAX_AFFECTING_GRID_DISTANCE);
         this.minPartZ = Units.gridToPart(centerGridZ - MAX_AFFECTING_GRID_DISTANCE);
@@ -106,6 +145,23 @@ public final class RiverEdge
         return realWidth * realWidth;
     }
 
+    /**
+     * Writes this edge, excluding the link to the drain edge, which is written separately by the owning {@link Region}
+     */
+    void write(DataOutput out) throws IOException
+    {
+        writeVertex(out, source);
+        writeVertex(out, drain);
+        out.writeDouble(fractal.norm());
+        out.writeInt(fractal.segments.length);
+        for (double value : fractal.segments)
+        {
+            out.writeDouble(value);
+        }
+        out.writeInt(width);
+        out.writeBoolean(sourceEdge);
+    }
+
     /**
      * Links this edge to the provided drain edge via {@code this --> edge}.
      */
@@ -100,6 +100,20 @@ public class MidpointFractal
         this.norm = ENCOMPASSING_RANGES[bisections] * RiverHelpers.normInf(sourceX - drainX, sourceY - drainY);
     }
 
+    /**
+     * Creates a fractal from already bisected segments, i.e. when read from a persisted region.
+     */
+    public MidpointFractal(double[] segments, double norm)
+    {
+        this.segments = segments;
+        this.norm = norm;
+    }
+
+    public double norm()
+    {
+        return norm;
+    }
+
     /**
      * Checks if a given point (x, y) comes within a minimum {@code distance} of the bounding box of the fractal, using a heuristic to estimate
      * if this is remotely possible. This is an overestimation vs {@link #intersect(double, double, double)}, and is much faster to compute.
@@ -0,0 +1,206 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.block;
+
+import java.util.EnumMap;
+import java.util.Map;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.common.blockentities.FarmlandBlockEntity.NutrientType;
+import net.dries007.tfc.common.blockentities.IFarmland;
+import net.dries007.tfc.common.blocks.crop.CropGrowth;
+import net.dries007.tfc.common.blocks.crop.CropHelpers;
+import net.dries007.tfc.test.TestSetup;
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.calendar.ICalendar;
+import net.dries007.tfc.util.climate.ClimateRange;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CropGrowthTest implements TestSetup
+{
+    static final int HYDRATION = 50;
+    static final long TICKS_IN_YEAR = 12 * 8 * ICalendar.TICKS_IN_DAY;
+    static final ClimateRange TEMPERATE = new ClimateRange(20, 80, 10, 2, 30, 5);
+    static final ClimateRange TROPICAL = new ClimateRange(20, 80, 10, 18, 40, 2);
+
+    @Test
+    public void testMatchesStepwiseOverSeason()
+    {
+        assertMatchesStepwise(TEMPERATE, new Farmland(0.8f, 0.5f, 0.3f), 0, TICKS_IN_YEAR / 4, true);
+    }
+
+    @Test
+    public void testMatchesStepwiseWithPartialStep()
+    {
+        assertMatchesStepwise(TEMPERATE, new Farmland(0.2f, 0.9f, 0.6f), 1234, 1234 + 7 * CropHelpers.UPDATE_INTERVAL + 5678, true);
+    }
+
+    @Test
+    public void testMatchesStepwiseWithoutFarmland()
+    {
+        assertMatchesStepwise(TEMPERATE, null, 0, TICKS_IN_YEAR / 3, true);
+    }
+
+    @Test
+    public void testMatchesStepwiseWhenCropDies()
+    {
+        // Starting in summer, and long enough to pass into winter, which a tropical crop cannot survive
+        assertMatchesStepwise(TROPICAL, new Farmland(1, 1, 1), TICKS_IN_YEAR / 8, TICKS_IN_YEAR, false);
+    }
+
+    @Test
+    public void testNutrientsAreOnlyWrittenOnce()
+    {
+        final Farmland farmland = new Farmland(1, 0.5f, 0.5f);
+        final CropGrowth growth = create(TEMPERATE, farmland, 0, 0, 0);
+
+        assertTrue(growth.simulate(RandomSource.create(1), 0, TICKS_IN_YEAR / 4));
+        growth.applyNutrients();
+
+        assertTrue(farmland.writes <= NutrientType.VALUES.length);
+        assertTrue(farmland.getNutrient(NutrientType.NITROGEN) < 1);
+    }
+
+    private void assertMatchesStepwise(ClimateRange range, @Nullable Farmland farmland, long fromTick, long toTick, boolean expectSurvived)
+    {
+        final Farmland stepwiseFarmland = farmland == null ? null : farmland.copy();
+        final Result stepwise = simulateStepwise(range, stepwiseFarmland, fromTick, toTick);
+
+        final CropGrowth growth = create(range, farmland, 0.1f, 0, 0);
+        final boolean survived = growth.simulate(RandomSource.create(1), fromTick, toTick);
+        growth.applyNutrients();
+
+        assertEquals(expectSurvived, stepwise.survived);
+        assertEquals(stepwise.survived, survived);
+        assertEquals(stepwise.growth, growth.getGrowth(), 1e-6f);
+        if (survived)
+        {
+            assertEquals(stepwise.expiry, growth.getExpiry(), 1e-6f);
+            assertEquals(stepwise.yield, growth.getYield(), 1e-6f);
+        }
+        if (farmland != null)
+        {
+            for (NutrientType type : NutrientType.VALUES)
+            {
+                assertEquals(stepwiseFarmland.getNutrient(type), farmland.getNutrient(type), 1e-6f);
+            }
+        }
+    }
+
+    /**
+     * Steps a crop one interval at a time, re-computing all inputs each step, and writing to the crop and farmland after each step, as
+     * growth was calculated prior to {@link CropGrowth}.
+     */
+    private Result simulateStepwise(ClimateRange range, @Nullable IFarmland farmland, long fromTick, long toTick)
+    {
+        final RandomSource random = RandomSource.create(1);
+        final float growthModifier = 1f, expiryModifier = 1f;
+        float growth = 0.1f, expiry = 0, yield = 0;
+        for (long tick = fromTick; tick < toTick; )
+        {
+            final long nextTick = Math.min(tick + CropHelpers.UPDATE_INTERVAL, toTick);
+            final float startTemperature = temperature(tick), endTemperature = temperature(nextTick);
+            final long tickDelta = nextTick - tick;
+
+            final boolean growing = checkClimate(range, startTemperature, endTemperature, false);
+            final boolean healthy = growing || checkClimate(range, startTemperature, endTemperature, true);
+
+            float nutrientsAvailable = 0, nutrientsRequired = CropHelpers.NUTRIENT_CONSUMPTION * tickDelta, nutrientsConsumed = 0;
+            if (farmland != null)
+            {
+                nutrientsAvailable = farmland.getNutrient(NutrientType.NITROGEN);
+                nutrientsConsumed = farmland.consumeNutrientAndResupplyOthers(NutrientType.NITROGEN, nutrientsRequired);
+            }
+
+            final float localExpiryLimit = CropHelpers.EXPIRY_LIMIT * expiryModifier * (1f / growthModifier);
+            final float totalGrowthDelta = (1f / growthModifier) * Helpers.uniform(random, 0.9f, 1.1f) * tickDelta * CropHelpers.GROWTH_FACTOR + nutrientsConsumed * CropHelpers.NUTRIENT_GROWTH_FACTOR;
+            final float initialGrowth = growth;
+            float remainingGrowthDelta = totalGrowthDelta;
+
+            expiry *= localExpiryLimit / CropHelpers.EXPIRY_LIMIT;
+            if (remainingGrowthDelta > 0 && growing && growth < CropHelpers.GROWTH_LIMIT)
+            {
+                final float delta = Math.min(remainingGrowthDelta, CropHelpers.GROWTH_LIMIT - growth);
+                growth += delta;
+                remainingGrowthDelta -= delta;
+            }
+            if (remainingGrowthDelta > 0)
+            {
+                expiry += Math.min(remainingGrowthDelta, localExpiryLimit - expiry);
+            }
+
+            final float growthDelta = growth - initialGrowth;
+            final float nutrientSatisfaction = growthDelta <= 0 || nutrientsRequired <= 0 ? 1 : Math.min(1, (totalGrowthDelta / growthDelta) * (nutrientsAvailable / nutrientsRequired));
+            yield += growthDelta * Helpers.lerp(nutrientSatisfaction, CropHelpers.YIELD_MIN, CropHelpers.YIELD_LIMIT);
+
+            if (expiry >= localExpiryLimit || !healthy)
+            {
+                return new Result(false, growth, expiry, yield);
+            }
+            expiry *= CropHelpers.EXPIRY_LIMIT / localExpiryLimit;
+            tick = nextTick;
+        }
+        return new Result(true, growth, expiry, yield);
+    }
+
+    private boolean checkClimate(ClimateRange range, float firstTemperature, float secondTemperature, boolean allowWiggle)
+    {
+        return range.checkBoth(HYDRATION, firstTemperature, allowWiggle) && range.checkTemperature(secondTemperature, allowWiggle) == ClimateRange.Result.VALID;
+    }
+
+    private CropGrowth create(ClimateRange range, @Nullable IFarmland farmland, float growth, float expiry, float yield)
+    {
+        return new CropGrowth(range, HYDRATION, CropHelpers.GROWTH_LIMIT, 1f, 1f, NutrientType.NITROGEN, farmland, CropGrowthTest::temperature, growth, expiry, yield);
+    }
+
+    /**
+     * A seasonal temperature curve, with a daily variation.
+     */
+    private static float temperature(long tick)
+    {
+        final long day = tick / ICalendar.TICKS_IN_DAY;
+        final float daily = (Mth.murmurHash3Mixer((int) day) & 0xFF) / 255f * 6f - 3f;
+        return 12f + 16f * Mth.sin((float) (2 * Math.PI * tick / TICKS_IN_YEAR)) + daily;
+    }
+
+    record Result(boolean survived, float growth, float expiry, float yield) {}
+
+    static class Farmland implements IFarmland
+    {
+        final Map<NutrientType, Float> nutrients = new EnumMap<>(NutrientType.class);
+        int writes;
+
+        Farmland(float nitrogen, float phosphorous, float potassium)
+        {
+            nutrients.put(NutrientType.NITROGEN, nitrogen);
+            nutrients.put(NutrientType.PHOSPHOROUS, phosphorous);
+            nutrients.put(NutrientType.POTASSIUM, potassium);
+        }
+
+        Farmland copy()
+        {
+            return new Farmland(nutrients.get(NutrientType.NITROGEN), nutrients.get(NutrientType.PHOSPHOROUS), nutrients.get(NutrientType.POTASSIUM));
+        }
+
+        @Override
+        public float getNutrient(NutrientType type)
+        {
+            return nutrients.get(type);
+        }
+
+        @Override
+        public void setNutrient(NutrientType type, float value)
+        {
+            nutrients.put(type, Mth.clamp(value, 0, 1));
+            writes++;
+        }
+    }
+}
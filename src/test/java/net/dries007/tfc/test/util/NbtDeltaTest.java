@@ -0,0 +1,175 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.util;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.util.NbtDelta;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NbtDeltaTest
+{
+    @Test
+    public void testEqualTagsHaveNoDelta()
+    {
+        assertNull(NbtDelta.diff(new CompoundTag(), new CompoundTag()));
+        assertNull(NbtDelta.diff(inventory(3, 1, 4), inventory(3, 1, 4)));
+    }
+
+    @Test
+    public void testAddedAndChangedKeys()
+    {
+        final CompoundTag from = new CompoundTag(), to = new CompoundTag();
+        from.putInt("same", 1);
+        from.putInt("changed", 2);
+        to.putInt("same", 1);
+        to.putInt("changed", 3);
+        to.putString("added", "value");
+
+        assertRoundTrip(from, to);
+    }
+
+    @Test
+    public void testRemovedKeys()
+    {
+        final CompoundTag from = new CompoundTag(), to = new CompoundTag();
+        from.putInt("kept", 1);
+        from.putInt("removed", 2);
+        from.put("removedCompound", new CompoundTag());
+        to.putInt("kept", 1);
+
+        assertRoundTrip(from, to);
+    }
+
+    @Test
+    public void testNestedCompounds()
+    {
+        final CompoundTag from = new CompoundTag(), to = new CompoundTag();
+        final CompoundTag fromNested = new CompoundTag(), toNested = new CompoundTag();
+        final CompoundTag fromInner = new CompoundTag(), toInner = new CompoundTag();
+
+        fromInner.putFloat("temperature", 100f);
+        toInner.putFloat("temperature", 120f);
+        fromNested.put("heat", fromInner);
+        fromNested.putInt("removed", 1);
+        toNested.put("heat", toInner);
+        toNested.putString("added", "value");
+        from.put("nested", fromNested);
+        to.put("nested", toNested);
+        from.putInt("unchanged", 5);
+        to.putInt("unchanged", 5);
+
+        final CompoundTag delta = assertRoundTrip(from, to);
+        assertTrue(delta.contains("patch"));
+        assertFalse(delta.contains("set"));
+    }
+
+    @Test
+    public void testSameSizeListWithSomeChangedElements()
+    {
+        final CompoundTag from = inventory(1, 2, 3, 4), to = inventory(1, 5, 3, 6);
+
+        final CompoundTag delta = assertRoundTrip(from, to);
+        assertTrue(delta.contains("list"));
+        assertFalse(delta.contains("set"));
+    }
+
+    @Test
+    public void testSameSizeListWithAllChangedElements()
+    {
+        assertRoundTrip(inventory(1, 2), inventory(3, 4));
+    }
+
+    @Test
+    public void testListChangingSize()
+    {
+        assertRoundTrip(inventory(1, 2, 3), inventory(1, 2));
+        assertRoundTrip(inventory(1, 2), inventory(1, 2, 3));
+        assertRoundTrip(inventory(), inventory(1));
+    }
+
+    @Test
+    public void testListChangingElementType()
+    {
+        final CompoundTag from = new CompoundTag(), to = new CompoundTag();
+        final ListTag fromList = new ListTag(), toList = new ListTag();
+        fromList.add(IntTag.valueOf(1));
+        fromList.add(IntTag.valueOf(2));
+        toList.add(StringTag.valueOf("1"));
+        toList.add(StringTag.valueOf("2"));
+        from.put("list", fromList);
+        to.put("list", toList);
+
+        final CompoundTag delta = assertRoundTrip(from, to);
+        assertTrue(delta.contains("set"));
+    }
+
+    @Test
+    public void testValueChangingType()
+    {
+        final CompoundTag from = new CompoundTag(), to = new CompoundTag();
+        from.put("value", new CompoundTag());
+        to.put("value", new ListTag());
+
+        assertRoundTrip(from, to);
+    }
+
+    @Test
+    public void testApplyDoesNotShareTagsWithDelta()
+    {
+        final CompoundTag from = inventory(1, 2), to = inventory(1, 3);
+        final CompoundTag delta = NbtDelta.diff(from, to);
+        assertNotNull(delta);
+
+        final CompoundTag target = from.copy();
+        NbtDelta.apply(target, delta);
+        target.getList("items", Tag.TAG_COMPOUND).getCompound(1).putInt("count", 99);
+
+        assertEquals(inventory(1, 3), to);
+    }
+
+    /**
+     * Asserts that applying the delta from {@code from} to {@code to}, to a copy of {@code from}, results in {@code to}.
+     *
+     * @return The delta
+     */
+    private CompoundTag assertRoundTrip(CompoundTag from, CompoundTag to)
+    {
+        final CompoundTag delta = NbtDelta.diff(from, to);
+        assertNotNull(delta);
+
+        final CompoundTag target = from.copy();
+        NbtDelta.apply(target, delta);
+        assertEquals(to, target);
+        return delta;
+    }
+
+    /**
+     * @return A tag similar to a block entity's inventory, with one item stack per count.
+     */
+    private CompoundTag inventory(int... counts)
+    {
+        final CompoundTag tag = new CompoundTag();
+        final ListTag items = new ListTag();
+        for (int count : counts)
+        {
+            final CompoundTag stack = new CompoundTag();
+            stack.putString("id", "minecraft:stick");
+            stack.putInt("count", count);
+            items.add(stack);
+        }
+        tag.put("items", items);
+        tag.putInt("ticks", 10);
+        return tag;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.util;
+
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.test.TestSetup;
+import net.dries007.tfc.world.TFCChunkGenerator;
+import net.dries007.tfc.world.noise.Noise2D;
+import net.dries007.tfc.world.noise.OpenSimplex2D;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NoiseFillTest implements TestSetup
+{
+    @Test
+    public void testShoreSamplerChunkGrid()
+    {
+        final Noise2D shore = TFCChunkGenerator.createShoreSampler(1923874123L);
+        for (int chunkX = -3; chunkX <= 3; chunkX++)
+        {
+            for (int chunkZ = -3; chunkZ <= 3; chunkZ++)
+            {
+                // Matches both grids filled by ChunkNoiseFiller, which must agree with the per-block samples from ChunkHeightFiller
+                assertFillEqualsNoise(shore, chunkX * 16 + 3701, chunkZ * 16 - 9283, 16, 16, 1);
+                assertFillEqualsNoise(shore, chunkX * 16 + 3701 - 4, chunkZ * 16 - 9283 - 4, 7, 7, 4);
+            }
+        }
+    }
+
+    @Test
+    public void testCombinatorsWithFractionalCoordinates()
+    {
+        final OpenSimplex2D base = new OpenSimplex2D(98123L);
+        final Noise2D noise = ((Noise2D) base::noise)
+            .octaves(3)
+            .spread(0.0137)
+            .add(((Noise2D) base::noise).spread(0.1).spread(0.7))
+            .map(value -> value * value)
+            .affine(3.1, -0.2);
+
+        assertFillEqualsNoise(noise, 1234.567, -89.123, 9, 7, 0.1);
+        assertFillEqualsNoise(noise, -0.3, 0.3, 5, 5, 1.0 / 3);
+
+        // A grid where scaling the origin and step separately, rather than each coordinate, rounds to a different value
+        assertFillEqualsNoise(((Noise2D) base::noise).spread(0.7), 779.873, 5419.805, 16, 16, 2.795);
+    }
+
+    private void assertFillEqualsNoise(Noise2D noise, double x0, double z0, int width, int height, double step)
+    {
+        final double[] values = new double[width * height];
+        noise.fill(values, x0, z0, width, height, step);
+        for (int z = 0; z < height; z++)
+        {
+            for (int x = 0; x < width; x++)
+            {
+                assertEquals(noise.noise(x0 + x * step, z0 + z * step), values[x + width * z], "Mismatch at (" + x + ", " + z + ")");
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.data.providers.BuiltinWorldPreset;
+import net.dries007.tfc.test.TestSetup;
+import net.dries007.tfc.world.region.Region;
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.region.RiverEdge;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegionFormatTest implements TestSetup
+{
+    @Test
+    public void testRoundTrip() throws IOException
+    {
+        final RegionGenerator generator = new RegionGenerator(BuiltinWorldPreset.defaultSettings(), new XoroshiroRandomSource(1923874123L));
+
+        // Regions are roughly 20 - 40 grid units across, so this checks a number of different regions, until one with connected rivers is found
+        boolean foundDrainLink = false;
+        for (int i = 0; i < 16 && !foundDrainLink; i++)
+        {
+            final Region region = generator.getOrCreateRegion(i * 64, 0);
+            assertRegionEquals(region, roundTrip(region));
+            foundDrainLink = region.rivers().stream().anyMatch(edge -> edge.drainEdge() != null);
+        }
+        assertTrue(foundDrainLink, "No region with connected rivers was generated");
+    }
+
+    private Region roundTrip(Region region) throws IOException
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes))
+        {
+            region.write(out);
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            final Region read = Region.read(in);
+            assertEquals(-1, in.read(), "Region was not fully read");
+            return read;
+        }
+    }
+
+    private void assertRegionEquals(Region expected, Region actual)
+    {
+        assertEquals(expected.noise(), actual.noise());
+        assertEquals(expected.minX(), actual.minX());
+        assertEquals(expected.minZ(), actual.minZ());
+        assertEquals(expected.maxX(), actual.maxX());
+        assertEquals(expected.maxZ(), actual.maxZ());
+
+        for (int x = expected.minX(); x <= expected.maxX(); x++)
+        {
+            for (int z = expected.minZ(); z <= expected.maxZ(); z++)
+            {
+                final Region.Point expectedPoint = expected.at(x, z), actualPoint = actual.at(x, z);
+                if (expectedPoint == null)
+                {
+                    assertNull(actualPoint);
+                }
+                else
+                {
+                    assertNotNull(actualPoint);
+                    assertPointEquals(expectedPoint, actualPoint);
+                }
+            }
+        }
+
+        final List<RiverEdge> expectedRivers = expected.rivers(), actualRivers = actual.rivers();
+        assertEquals(expectedRivers.size(), actualRivers.size());
+        for (int i = 0; i < expectedRivers.size(); i++)
+        {
+            final RiverEdge expectedEdge = expectedRivers.get(i), actualEdge = actualRivers.get(i);
+
+            assertEquals(expectedEdge.source(), actualEdge.source());
+            assertEquals(expectedEdge.drain(), actualEdge.drain());
+            assertEquals(expectedEdge.fractal().norm(), actualEdge.fractal().norm());
+            assertArrayEquals(expectedEdge.fractal().segments, actualEdge.fractal().segments);
+            assertEquals(expectedEdge.width, actualEdge.width);
+            assertEquals(expectedEdge.sourceEdge(), actualEdge.sourceEdge());
+            assertEquals(
+                expectedEdge.drainEdge() == null ? -1 : expectedRivers.indexOf(expectedEdge.drainEdge()),
+                actualEdge.drainEdge() == null ? -1 : actualRivers.indexOf(actualEdge.drainEdge())
+            );
+        }
+    }
+
+    private void assertPointEquals(Region.Point expected, Region.Point actual)
+    {
+        assertEquals(expected.x, actual.x);
+        assertEquals(expected.z, actual.z);
+        assertEquals(expected.index, actual.index);
+        assertEquals(expected.distanceToOcean, actual.distanceToOcean);
+        assertEquals(expected.distanceToEdge, actual.distanceToEdge);
+        assertEquals(expected.distanceToWestCoast, actual.distanceToWestCoast);
+        assertEquals(expected.baseOceanDepth, actual.baseOceanDepth);
+        assertEquals(expected.baseLandHeight, actual.baseLandHeight);
+        assertEquals(expected.biomeAltitude, actual.biomeAltitude);
+        assertEquals(expected.rainfall, actual.rainfall);
+        assertEquals(expected.rainfallVariance, actual.rainfallVariance);
+        assertEquals(expected.temperature, actual.temperature);
+        assertEquals(expected.biome, actual.biome);
+        assertEquals(expected.rock, actual.rock);
+        assertEquals(expected.isSurfaceRockKarst, actual.isSurfaceRockKarst);
+        assertEquals(expected.land(), actual.land());
+        assertEquals(expected.island(), actual.island());
+        assertEquals(expected.river(), actual.river());
+        assertEquals(expected.lake(), actual.lake());
+        assertEquals(expected.mountain(), actual.mountain());
+        assertEquals(expected.coastalMountain(), actual.coastalMountain());
+    }
+}
@@ -6,13 +6,16 @@
 
 package net.dries007.tfc.test.util;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
 import net.dries007.tfc.util.rotation.AxleNode;
@@ -26,6 +29,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 public class RotationNetworkTest
 {
+    static final int LARGE_NETWORK_SIZE = 10_000;
+
     @Test
     public void testEmpty()
     {
@@ -504,15 +509,140 @@ public class RotationNetworkTest
             """, mock.toString());
     }
 
+    @Test
+    public void testLargeNetworkRemovingNearLeaf()
+    {
+        final RotationMock mock = mock();
+        final Node[] line = mock.addLine(LARGE_NETWORK_SIZE);
+
+        mock.resetUpdates();
+        mock.removeFromLine(LARGE_NETWORK_SIZE - 5);
+        mock.manager.applyPendingChanges();
+
+        // Only the four nodes downstream are visited, and none need to be updated
+        assertEquals(0, mock.updates()[0]);
+        assertEquals(LARGE_NETWORK_SIZE - 5, mock.countConnected(line));
+        assertFalse(line[LARGE_NETWORK_SIZE - 1].isConnectedToNetwork());
+    }
+
+    @Test
+    public void testLargeNetworkRemovingNearSource()
+    {
+        final RotationMock mock = mock();
+        final Node[] line = mock.addLine(LARGE_NETWORK_SIZE);
+
+        mock.resetUpdates();
+        mock.removeFromLine(0);
+        mock.manager.applyPendingChanges();
+
+        assertEquals(0, mock.updates()[0]);
+        assertEquals(0, mock.countConnected(line));
+    }
+
+    @Test
+    public void testLargeNetworkBatchesRemovalsInTheSameTick()
+    {
+        final RotationMock mock = mock();
+        final Node[] line = mock.addLine(LARGE_NETWORK_SIZE);
+
+        // As if the chunks containing the far half of the line were unloaded, removing many nodes in the same tick
+        mock.resetUpdates();
+        for (int i = LARGE_NETWORK_SIZE / 2; i < LARGE_NETWORK_SIZE; i += 100)
+        {
+            mock.removeFromLine(i);
+        }
+
+        assertTrue(line[LARGE_NETWORK_SIZE - 1].isConnectedToNetwork()); // Not yet applied
+        mock.manager.applyPendingChanges();
+
+        assertEquals(0, mock.updates()[0]);
+        assertEquals(LARGE_NETWORK_SIZE / 2, mock.countConnected(line));
+    }
+
+    @Test
+    public void testLargeNetworkUpdatingBranchOnlyUpdatesBranch()
+    {
+        // A spine of 100 nodes along x, each with a branch of 99 nodes along z
+        final RotationMock mock = mock();
+        final List<Node> nodes = new ArrayList<>();
+
+        assertTrue(mock.addSource(-1, 0, 0, EAST));
+        for (int x = 0; x < 100; x++)
+        {
+            assertTrue(mock.add(x, 0, 0, mock.counting(nodes), EnumSet.of(EAST, WEST, SOUTH)));
+            for (int z = 1; z < 100; z++)
+            {
+                assertTrue(mock.add(x, 0, z, mock.counting(nodes), EnumSet.of(NORTH, SOUTH)));
+            }
+        }
+        assertEquals(LARGE_NETWORK_SIZE, mock.countConnected(nodes.toArray(Node[]::new)));
+
+        // Inverting the rotation at the start of one branch should only update that branch
+        mock.resetUpdates();
+        assertTrue(mock.update(50, 0, 1, n -> ((CountingNode) n).inverted = true));
+
+        assertEquals(99, mock.updates()[0]);
+        assertEquals(NORTH, rotationAt(mock, 50, 0, 99));
+        assertEquals(SOUTH, rotationAt(mock, 51, 0, 99));
+    }
+
+    @Test
+    public void testLargeNetworkWithCyclesReconnectsAroundRemovedNode()
+    {
+        // A 100 x 100 grid, connected in all horizontal directions, powered from below one corner
+        final RotationMock mock = mock();
+        final List<Node> nodes = new ArrayList<>();
+
+        assertTrue(mock.addSource(0, -1, 0, UP));
+        for (int x = 0; x < 100; x++)
+        {
+            for (int z = 0; z < 100; z++)
+            {
+                final EnumSet<Direction> connections = EnumSet.of(NORTH, SOUTH, EAST, WEST);
+                if (x == 0 && z == 0)
+                {
+                    connections.add(DOWN);
+                }
+                assertTrue(mock.add(x, 0, z, mock.counting(nodes), connections));
+            }
+        }
+        final Node[] grid = nodes.toArray(Node[]::new);
+        assertEquals(LARGE_NETWORK_SIZE, mock.countConnected(grid));
+
+        // Each node is powered from the north, so the rest of the first column is downstream of the removed node, and must be re-powered from the east
+        mock.resetUpdates();
+        mock.remove(0, 0, 1);
+        mock.manager.applyPendingChanges();
+
+        assertEquals(98, mock.updates()[0]);
+        assertEquals(LARGE_NETWORK_SIZE - 1, mock.countConnected(grid));
+
+        // Then, all nodes are downstream of this one, with no other path to the source
+        mock.remove(1, 0, 0);
+        mock.manager.applyPendingChanges();
+
+        assertEquals(1, mock.countConnected(grid));
+
+        // And re-adding a node reconnects everything
+        assertTrue(mock.add(1, 0, 0, mock.counting(nodes), EnumSet.of(NORTH, SOUTH, EAST, WEST)));
+        assertEquals(LARGE_NETWORK_SIZE - 1, mock.countConnected(nodes.toArray(Node[]::new)));
+    }
+
+    private Direction rotationAt(RotationMock mock, int x, int y, int z)
+    {
+        final @Nullable Node node = mock.manager.getNode(new BlockPos(x, y, z));
+        assertNotNull(node);
+        assertNotNull(node.rotation());
+        return node.rotation().direction();
+    }
 
-    
     private RotationMock mock()
     {
-        return new RotationMock(new RotationNetworkManager(), new HashMap<>());
+        return new RotationMock(new RotationNetworkManager(), new HashMap<>(), new int[1]);
     }
 
 
-    record RotationMock(RotationNetworkManager manager, Map<BlockPos, Node> sourceNodes)
+    record RotationMock(RotationNetworkManager manager, Map<BlockPos, Node> sourceNodes, int[] updates)
     {
         boolean add(int x, int y, int z) { return add(x, y, z, MockNode::new, EnumSet.noneOf(Direction.class)); }
         boolean add(int x, int y, int z, Direction first, Direction... rest) { return add(x, y, z, MockNode::new, EnumSet.of(first, rest)); }
@@ -548,9 +678,60 @@ public class RotationNetworkTest
             manager.remove(removed);
         }
 
+        /**
+         * Adds a source at the origin, and a line of {@code length} nodes to the north of it.
+         */
+        Node[] addLine(int length)
+        {
+            final List<Node> line = new ArrayList<>();
+            assertTrue(addSource(0, 0, 0, NORTH));
+            for (int i = 0; i < length; i++)
+            {
+                assertTrue(add(0, 0, -(i + 1), counting(line), EnumSet.of(NORTH, SOUTH)));
+            }
+            return line.toArray(Node[]::new);
+        }
+
+        void removeFromLine(int index)
+        {
+            remove(0, 0, -(index + 1));
+        }
+
+        BiFunction<BlockPos, EnumSet<Direction>, Node> counting(List<Node> added)
+        {
+            return (pos, connections) -> {
+                final Node node = new CountingNode(pos, connections, updates);
+                added.add(node);
+                return node;
+            };
+        }
+
+        void resetUpdates()
+        {
+            updates[0] = 0;
+        }
+
+        /**
+         * @return The number of nodes that are still in the world, and connected to a network.
+         */
+        int countConnected(Node[] nodes)
+        {
+            int connected = 0;
+            for (Node node : nodes)
+            {
+                if (manager.getNode(node.pos()) == node && node.isConnectedToNetwork())
+                {
+                    connected++;
+                }
+            }
+            return connected;
+        }
+
         @Override
         public String toString()
         {
+            // Removals are applied once per tick, so apply any that are pending before inspecting the networks
+            manager.applyPendingChanges();
             return manager.toString();
         }
     }
@@ -571,6 +752,33 @@ public class RotationNetworkTest
         }
     }
 
+    static class CountingNode extends MockNode
+    {
+        final int[] updates;
+        boolean inverted;
+
+        CountingNode(BlockPos pos, EnumSet<Direction> connections, int[] updates)
+        {
+            super(pos, connections);
+            this.updates = updates;
+        }
+
+        @Override
+        public boolean update(long networkId, Direction sourceDirection, Rotation sourceRotation)
+        {
+            // Counts the number of times a node is updated, as a measure of how much of a network is visited by each change
+            updates[0]++;
+            return super.update(networkId, sourceDirection, sourceRotation);
+        }
+
+        @Override
+        public Rotation rotation(Rotation sourceRotation, Direction sourceDirection, Direction exitDirection)
+        {
+            final Rotation rotation = super.rotation(sourceRotation, sourceDirection, exitDirection);
+            return inverted ? Rotation.of(rotation, rotation.direction().getOpposite()) : rotation;
+        }
+    }
+
     static class InvertNode extends MockNode
     {
         InvertNode(BlockPos pos, EnumSet<Direction> connections)